@@ -0,0 +1,25 @@
+package com.cherry.cherrybookerbe.common.config;
+
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// 로컬(JVM) 캐시. 파드 간 무효화는 캐시별로 Redis pub/sub 으로 처리
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Bean
+    public CacheManager cacheManager() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(
+                NotificationTemplateCache.BY_ID,
+                NotificationTemplateCache.BY_TYPE
+        );
+        // 값은 불변 스냅샷이므로 참조 그대로 저장
+        cacheManager.setStoreByValue(false);
+        return cacheManager;
+    }
+}
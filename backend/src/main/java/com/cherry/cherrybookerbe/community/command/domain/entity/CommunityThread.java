@@ -14,7 +14,15 @@ import java.util.List;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "threads")
+@Table(
+        name = "threads",
+        indexes = {
+                // 릴레이 커서 페이지네이션 (parent_id, created_at, threads_id 순서로 seek)
+                @Index(name = "idx_threads_parent_created", columnList = "parent_id, created_at, threads_id"),
+                // 서브트리 일괄 삭제 (root_id 기준)
+                @Index(name = "idx_threads_root", columnList = "root_id")
+        }
+)
 public class CommunityThread extends BaseTimeEntity {
 
     @Id
@@ -32,6 +40,14 @@ public class CommunityThread extends BaseTimeEntity {
     @OrderBy("createdAt ASC")
     private List<CommunityThread> children = new ArrayList<>();
 
+    // 루트 스레드 PK (루트는 자기 자신). 삭제 등 트리 단위 작업을 root_id 한 번으로 처리하기 위한 값
+    @Column(name = "root_id")
+    private Integer rootId;
+
+    // 루트로부터의 깊이 (루트 0, 직속 릴레이 1 ...). 부모 체인을 따라가지 않고 알 수 있게 저장
+    @Column(name = "depth")
+    private Integer depth;
+
     // 유저 PK
     @Column(name = "user_id", nullable = false, updatable = false)
     private Integer userId;
@@ -53,6 +69,10 @@ public class CommunityThread extends BaseTimeEntity {
                             Integer userId,
                             Integer quoteId) {
         this.parent = parent;   // null 이면 최초 스레드
+        // 릴레이는 부모의 루트를 물려받는다. 루트는 id 가 생긴 뒤 assignRootToSelf 로 채운다
+        this.rootId = parent == null ? null : parent.getRootIdOrSelf();
+        // 백필 전 부모(depth 없음)면 비워 두고 다음 백필에서 채운다
+        this.depth = parent == null ? 0 : (parent.getDepth() != null ? parent.getDepth() + 1 : null);
         this.userId = userId;
         this.quoteId = quoteId;
     }
@@ -72,14 +92,29 @@ public class CommunityThread extends BaseTimeEntity {
         this.deleted = true;
     }
 
-    // 자기 + 모든 자식(릴레이)까지 소프트 삭제
-    public void markDeletedCascade() {
-        markDeletedOnly();
-        for (CommunityThread child : children) {
-            child.markDeletedCascade();
+    // 루트 저장 직후(IDENTITY 로 id 가 생긴 뒤) 호출
+    public void assignRootToSelf() {
+        if (this.rootId == null) {
+            this.rootId = this.id;
         }
     }
 
+    // root_id/depth 백필 전 행을 요청 처리 중에 채울 때 사용 (부모 체인을 따라가 찾은 값)
+    public void assignRoot(Integer rootId, int depth) {
+        this.rootId = rootId;
+        this.depth = depth;
+    }
+
+    // root_id/depth 가 둘 다 채워진 행인지 (루트는 저장 직후 root_id 가 비어 있어도 자기 id 로 본다)
+    public boolean hasRoot() {
+        return getRootIdOrSelf() != null && this.depth != null;
+    }
+
+    // root_id 가 아직 없는 루트(저장 직후)도 자기 id 로 본다
+    public Integer getRootIdOrSelf() {
+        return this.rootId != null ? this.rootId : (isRoot() ? this.id : null);
+    }
+
     public void increaseReportCount() {
         this.reportCount++;
     }
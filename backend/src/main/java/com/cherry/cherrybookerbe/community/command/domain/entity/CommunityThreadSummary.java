@@ -0,0 +1,79 @@
+package com.cherry.cherrybookerbe.community.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스레드 목록용 읽기 모델 (루트 스레드 1개 = 1행).
+// 작성자 닉네임/글귀 내용/답글 수를 미리 펼쳐 두어 목록 조회가 인덱스 범위 읽기 한 번으로 끝난다.
+// 삭제된 루트 스레드는 행을 지운다. 갱신은 CommunityThreadSummaryWriter 에서만.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "thread_summary",
+        indexes = {
+                @Index(name = "idx_thread_summary_created", columnList = "created_at, thread_id"),
+                @Index(name = "idx_thread_summary_user_created", columnList = "user_id, created_at, thread_id")
+        }
+)
+public class CommunityThreadSummary {
+
+    // threads.threads_id (루트)
+    @Id
+    @Column(name = "thread_id")
+    private Integer threadId;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "user_nickname", length = 20)
+    private String userNickname;
+
+    @Column(name = "quote_id", nullable = false)
+    private Integer quoteId;
+
+    @Column(name = "quote_content", length = 500)
+    private String quoteContent;
+
+    // 삭제되지 않은 답글(릴레이) 수
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
+    @Column(name = "last_reply_at")
+    private LocalDateTime lastReplyAt;
+
+    @Column(name = "report_count", nullable = false)
+    private int reportCount;
+
+    // 원본 스레드의 생성/수정 시각
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Builder
+    private CommunityThreadSummary(Integer threadId,
+                                   Integer userId,
+                                   String userNickname,
+                                   Integer quoteId,
+                                   String quoteContent,
+                                   LocalDateTime createdAt) {
+        this.threadId = threadId;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.quoteId = quoteId;
+        this.quoteContent = quoteContent;
+        this.createdAt = createdAt;
+    }
+
+    // "수정됨" 여부 (CommunityThread#isUpdated 와 같은 규칙)
+    public boolean isUpdated() {
+        return updatedAt != null && !updatedAt.equals(createdAt);
+    }
+}
@@ -1,14 +1,20 @@
 package com.cherry.cherrybookerbe.community.command.domain.repository;
 
 import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface CommunityThreadRepository extends JpaRepository<CommunityThread, Integer> {
 
@@ -27,4 +33,74 @@ public interface CommunityThreadRepository extends JpaRepository<CommunityThread
     @Query("SELECT COUNT(ct) FROM CommunityThread ct " +
             "WHERE ct.userId = :userId AND ct.deleted = false")
     long countByUserId(@Param("userId") Integer userId);
+
+    // 상세/릴레이 조회 공통 프로젝션 (작성자 닉네임, 글귀 내용 포함. 삭제된 글은 글귀를 조인하지 않는다)
+    String DETAIL_SELECT = "select t.id as threadId, t.userId as userId, u.userNickname as userNickname, " +
+            "t.quoteId as quoteId, q.content as quoteContent, t.createdAt as createdAt, " +
+            "t.updatedAt as updatedAt, t.deleted as deleted, t.reportCount as reportCount " +
+            "from CommunityThread t " +
+            "left join User u on u.userId = t.userId " +
+            "left join Quote q on q.quoteId = t.quoteId and t.deleted = false ";
+
+    /*
+     * 상세 화면용: 대상 스레드 + 직속 릴레이 첫 페이지를 한 번에 조회 (엔티티 로딩 없음)
+     * 첫 행이 대상 스레드(삭제되지 않은 경우에만 포함), 이후 릴레이는 작성순. 릴레이 수는 pageable 로 제한
+     */
+    @Query(DETAIL_SELECT +
+            "where (t.id = :threadId and t.deleted = false) or t.parent.id = :threadId " +
+            "order by case when t.id = :threadId then 0 else 1 end, t.createdAt asc, t.id asc")
+    List<ThreadDetailRow> findDetailRows(@Param("threadId") Integer threadId, Pageable pageable);
+
+    // 릴레이 첫 페이지 (작성순)
+    @Query(DETAIL_SELECT +
+            "where t.parent.id = :parentId " +
+            "order by t.createdAt asc, t.id asc")
+    List<ThreadDetailRow> findReplyRows(@Param("parentId") Integer parentId, Pageable pageable);
+
+    // 릴레이 다음 페이지: (createdAt, id) 커서 이후 (parent_id, created_at, threads_id 인덱스 seek)
+    @Query(DETAIL_SELECT +
+            "where t.parent.id = :parentId " +
+            "and (t.createdAt > :createdAt or (t.createdAt = :createdAt and t.id > :id)) " +
+            "order by t.createdAt asc, t.id asc")
+    List<ThreadDetailRow> findReplyRowsAfter(@Param("parentId") Integer parentId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") Integer id,
+                                             Pageable pageable);
+
+    // 릴레이 전체 스트리밍 (호출 측 트랜잭션 안에서 소비하고 닫아야 한다)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query(DETAIL_SELECT +
+            "where t.parent.id = :parentId " +
+            "order by t.createdAt asc, t.id asc")
+    Stream<ThreadDetailRow> streamReplyRows(@Param("parentId") Integer parentId);
+
+    boolean existsByIdAndDeletedFalse(Integer id);
+
+    // 루트 작성자 조회 (root_id 로 바로 찾으므로 릴레이 깊이와 무관하게 PK 조회 한 번)
+    @Query("select t.userId from CommunityThread t where t.id = :id")
+    Optional<Integer> findUserIdById(@Param("id") Integer id);
+
+    // 루트 + 모든 릴레이를 UPDATE 한 번으로 소프트 삭제 (트리 크기와 무관, 엔티티 로딩 없음)
+    // 루트 행은 id 로도 잡는다 (root_id 백필 전 행 대비)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CommunityThread t set t.deleted = true " +
+            "where (t.rootId = :rootId or t.id = :rootId) and t.deleted = false")
+    int softDeleteTree(@Param("rootId") Integer rootId);
+
+    interface ThreadDetailRow {
+        Integer getThreadId();
+        Integer getUserId();
+        String getUserNickname();
+        Integer getQuoteId();
+        String getQuoteContent();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getUpdatedAt();
+        boolean isDeleted();
+        int getReportCount();
+
+        // CommunityThread#isUpdated 와 같은 규칙
+        default boolean isUpdated() {
+            return getUpdatedAt() != null && !getUpdatedAt().equals(getCreatedAt());
+        }
+    }
 }
@@ -0,0 +1,69 @@
+package com.cherry.cherrybookerbe.community.command.domain.repository;
+
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThreadSummary;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface CommunityThreadSummaryRepository extends JpaRepository<CommunityThreadSummary, Integer> {
+
+    // 목록 (최신순)
+    Page<CommunityThreadSummary> findAllByOrderByCreatedAtDescThreadIdDesc(Pageable pageable);
+
+    // 내 스레드 목록 (최신순)
+    Page<CommunityThreadSummary> findByUserIdOrderByCreatedAtDescThreadIdDesc(Integer userId, Pageable pageable);
+
+    // 답글이 동시에 달려도 누락되지 않도록 원자적 증감
+    @Modifying(flushAutomatically = true)
+    @Query("update CommunityThreadSummary s set s.replyCount = s.replyCount + 1, s.lastReplyAt = :repliedAt " +
+            "where s.threadId = :threadId")
+    int increaseReplyCount(@Param("threadId") Integer threadId, @Param("repliedAt") LocalDateTime repliedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CommunityThreadSummary s set s.replyCount = s.replyCount - 1 " +
+            "where s.threadId = :threadId and s.replyCount > 0")
+    int decreaseReplyCount(@Param("threadId") Integer threadId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CommunityThreadSummary s set s.quoteId = :quoteId, s.quoteContent = :quoteContent, " +
+            "s.updatedAt = :updatedAt where s.threadId = :threadId")
+    int updateQuote(@Param("threadId") Integer threadId,
+                    @Param("quoteId") Integer quoteId,
+                    @Param("quoteContent") String quoteContent,
+                    @Param("updatedAt") LocalDateTime updatedAt);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CommunityThreadSummary s set s.reportCount = s.reportCount + 1 where s.threadId = :threadId")
+    int increaseReportCount(@Param("threadId") Integer threadId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update CommunityThreadSummary s set s.userNickname = :nickname where s.userId = :userId")
+    int updateNicknameByUserId(@Param("userId") Integer userId, @Param("nickname") String nickname);
+
+    // 요약 행 id 를 오름차순으로 청크 단위 조회 (keyset 페이징)
+    @Query("select s.threadId from CommunityThreadSummary s where s.threadId > :lastThreadId order by s.threadId asc")
+    List<Integer> findThreadIdsAfter(@Param("lastThreadId") Integer lastThreadId, Pageable pageable);
+
+    // 답글 수/마지막 답글 시각/신고 수를 threads 기준으로 다시 계산 (root_id 인덱스로 트리를 한 번에 묶는다)
+    @Modifying
+    @Query(value = "UPDATE thread_summary s " +
+            "JOIN threads t ON t.threads_id = s.thread_id " +
+            "LEFT JOIN (" +
+            "  SELECT r.root_id, COUNT(*) AS reply_count, MAX(r.created_at) AS last_reply_at " +
+            "  FROM threads r " +
+            "  WHERE r.root_id IN (:threadIds) AND r.threads_id <> r.root_id AND r.is_deleted = 0 " +
+            "  GROUP BY r.root_id" +
+            ") rc ON rc.root_id = s.thread_id " +
+            "SET s.reply_count = COALESCE(rc.reply_count, 0), " +
+            "    s.last_reply_at = rc.last_reply_at, " +
+            "    s.report_count = t.report_count " +
+            "WHERE s.thread_id IN (:threadIds)", nativeQuery = true)
+    int reconcile(@Param("threadIds") Collection<Integer> threadIds);
+}
@@ -0,0 +1,47 @@
+package com.cherry.cherrybookerbe.community.command.init;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// threads.root_id / depth 백필: 비어 있는 행이 있을 때만 부모 체인을 재귀로 따라가 한 번에 채운다
+// 답글 작성/삭제가 root_id 를 쓰므로 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 끝낸다
+@Slf4j
+@Component
+public class CommunityThreadRootInitializer implements SmartInitializingSingleton {
+
+    private static final String BACKFILL_SQL = """
+            UPDATE threads t
+            JOIN (
+                WITH RECURSIVE tree (root_id, threads_id, depth) AS (
+                    SELECT threads_id, threads_id, 0 FROM threads WHERE parent_id IS NULL
+                    UNION ALL
+                    SELECT tree.root_id, c.threads_id, tree.depth + 1
+                    FROM threads c JOIN tree ON c.parent_id = tree.threads_id
+                )
+                SELECT root_id, threads_id, depth FROM tree
+            ) r ON r.threads_id = t.threads_id
+            SET t.root_id = r.root_id,
+                t.depth = r.depth
+            WHERE t.root_id IS NULL OR t.depth IS NULL
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommunityThreadRootInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Boolean missing = jdbcTemplate.queryForObject(
+                "SELECT EXISTS(SELECT 1 FROM threads WHERE root_id IS NULL OR depth IS NULL)", Boolean.class);
+        if (!Boolean.TRUE.equals(missing)) {
+            return;
+        }
+
+        int updated = jdbcTemplate.update(BACKFILL_SQL);
+        log.info("[COMMUNITY] threads.root_id/depth backfilled. rows={}", updated);
+    }
+}
@@ -0,0 +1,64 @@
+package com.cherry.cherrybookerbe.community.command.init;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// thread_summary 채우기: 요약 행이 없는 루트만 threads 에서 만든다 (INSERT IGNORE 라 재실행해도 안전)
+// 목록 조회가 읽기 모델만 보므로 웹 서버가 요청을 받기 전(싱글톤 초기화 직후)에 끝낸다
+@Slf4j
+@Component
+public class CommunityThreadSummaryInitializer implements SmartInitializingSingleton {
+
+    private static final String MISSING_SQL = """
+            SELECT EXISTS(
+                SELECT 1 FROM threads t
+                WHERE t.parent_id IS NULL AND t.is_deleted = 0
+                  AND NOT EXISTS (SELECT 1 FROM thread_summary s WHERE s.thread_id = t.threads_id)
+            )
+            """;
+
+    private static final String BACKFILL_SQL = """
+            INSERT IGNORE INTO thread_summary
+                (thread_id, user_id, user_nickname, quote_id, quote_content,
+                 reply_count, last_reply_at, report_count, created_at, updated_at)
+            SELECT t.threads_id, t.user_id, u.user_nickname, t.quote_id, q.content,
+                   COALESCE(rc.reply_count, 0), rc.last_reply_at, t.report_count, t.created_at, t.updated_at
+            FROM threads t
+            LEFT JOIN users u ON u.user_id = t.user_id
+            LEFT JOIN quote q ON q.quote_id = t.quote_id
+            LEFT JOIN (
+                WITH RECURSIVE tree (root_id, threads_id) AS (
+                    SELECT threads_id, threads_id FROM threads WHERE parent_id IS NULL AND is_deleted = 0
+                    UNION ALL
+                    SELECT tree.root_id, c.threads_id FROM threads c JOIN tree ON c.parent_id = tree.threads_id
+                )
+                SELECT tree.root_id, COUNT(*) AS reply_count, MAX(r.created_at) AS last_reply_at
+                FROM tree
+                JOIN threads r ON r.threads_id = tree.threads_id
+                WHERE r.threads_id <> tree.root_id AND r.is_deleted = 0
+                GROUP BY tree.root_id
+            ) rc ON rc.root_id = t.threads_id
+            WHERE t.parent_id IS NULL AND t.is_deleted = 0
+              AND NOT EXISTS (SELECT 1 FROM thread_summary s WHERE s.thread_id = t.threads_id)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommunityThreadSummaryInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        // 테이블이 비었는지가 아니라 요약이 빠진 루트가 있는지로 판단 (부분 적재/중단 후 재기동도 메운다)
+        Boolean missing = jdbcTemplate.queryForObject(MISSING_SQL, Boolean.class);
+        if (!Boolean.TRUE.equals(missing)) {
+            return;
+        }
+
+        int inserted = jdbcTemplate.update(BACKFILL_SQL);
+        log.info("[COMMUNITY] thread_summary backfilled. rows={}", inserted);
+    }
+}
@@ -0,0 +1,54 @@
+package com.cherry.cherrybookerbe.community.command.job;
+
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadSummaryRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// thread_summary 드리프트 보정 배치: 루트 청크마다 답글 수/마지막 답글 시각/신고 수를 threads 기준으로 다시 계산해서 덮어쓴다
+@Slf4j
+@Component
+public class CommunityThreadSummaryReconciler {
+
+    private final CommunityThreadSummaryRepository summaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public CommunityThreadSummaryReconciler(CommunityThreadSummaryRepository summaryRepository,
+                                            PlatformTransactionManager transactionManager,
+                                            @Value("${community.thread-summary.reconcile-chunk-size:500}") int chunkSize) {
+        this.summaryRepository = summaryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Scheduled(cron = "${community.thread-summary.reconcile-cron:0 0 5 * * *}")
+    public void reconcile() {
+        int threads = 0;
+        Integer lastThreadId = 0;
+
+        while (true) {
+            List<Integer> threadIds = summaryRepository.findThreadIdsAfter(lastThreadId, PageRequest.of(0, chunkSize));
+            if (threadIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> summaryRepository.reconcile(threadIds));
+
+            threads += threadIds.size();
+            lastThreadId = threadIds.get(threadIds.size() - 1);
+
+            if (threadIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("[COMMUNITY] thread_summary reconciled. threads={}", threads);
+    }
+}
@@ -17,6 +17,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+
 @Slf4j
 @Service
 @Transactional
@@ -25,14 +28,17 @@ public class CommunityThreadCommandService {
     private final CommunityThreadRepository communityThreadRepository;
     private final UserRepository userRepository;
     private final ApplicationEventPublisher eventPublisher;
+    private final CommunityThreadSummaryWriter summaryWriter;
 
     public CommunityThreadCommandService(
             CommunityThreadRepository communityThreadRepository,
             UserRepository userRepository,
-            ApplicationEventPublisher eventPublisher) {
+            ApplicationEventPublisher eventPublisher,
+            CommunityThreadSummaryWriter summaryWriter) {
         this.communityThreadRepository = communityThreadRepository;
         this.userRepository = userRepository;
         this.eventPublisher = eventPublisher;
+        this.summaryWriter = summaryWriter;
     }
 
     // ================== 최초 스레드 ==================
@@ -47,6 +53,8 @@ public class CommunityThreadCommandService {
                 .build();
 
         CommunityThread saved = communityThreadRepository.save(thread);
+        saved.assignRootToSelf();
+        summaryWriter.threadCreated(saved);
         // 생성 직후 updatedAt == null -> modified(false)
         return new CommunityThreadCommandResponse(saved.getId(), saved.isUpdated());
     }
@@ -63,10 +71,11 @@ public class CommunityThreadCommandService {
         }
 
         thread.updateThread(request.getQuoteId());
+        summaryWriter.quoteUpdated(thread);
         return new CommunityThreadCommandResponse(thread.getId(), thread.isUpdated());
     }
 
-    // 삭제: 루트면 자식까지, 릴레이면 자기만
+    // 삭제: 루트면 root_id 기준으로 트리 전체를 한 번에, 릴레이면 자기만
     public void deleteThread(Integer threadId, Integer userId) {
         CommunityThread thread = communityThreadRepository.findByIdAndDeletedFalse(threadId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Thread not found: " + threadId));
@@ -76,10 +85,11 @@ public class CommunityThreadCommandService {
         }
 
         if (thread.isRoot()) {
-            thread.markDeletedCascade();
+            communityThreadRepository.softDeleteTree(thread.getId());
         } else {
             thread.markDeletedOnly();
         }
+        summaryWriter.threadDeleted(thread);
     }
 
     // ================== 릴레이(답글) ==================
@@ -91,6 +101,11 @@ public class CommunityThreadCommandService {
         CommunityThread parent = communityThreadRepository.findByIdAndDeletedFalse(parentThreadId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Thread not found: " + parentThreadId));
 
+        // 백필 전 부모면 새 답글이 root_id 없이 저장되지 않도록 먼저 채운다
+        if (!parent.hasRoot()) {
+            resolveRoot(parent);
+        }
+
         CommunityThread reply = CommunityThread.builder()
                 .parent(parent)
                 .userId(userId)
@@ -100,9 +115,15 @@ public class CommunityThreadCommandService {
         parent.addChild(reply);
         CommunityThread saved = communityThreadRepository.save(reply);
 
+        summaryWriter.replyCreated(saved);
+
         // ====== 알림용 이벤트 발행(추가) ======
-        CommunityThread root = findRoot(parent);
-        Integer ownerUserId = root.getUserId();
+        // 루트 작성자: 부모가 루트면 그대로, 아니면 root_id 로 PK 조회 한 번 (부모 체인을 따라가지 않는다)
+        Integer rootId = saved.getRootId();
+        Integer ownerUserId = parent.isRoot()
+                ? parent.getUserId()
+                : communityThreadRepository.findUserIdById(rootId)
+                        .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Thread not found: " + rootId));
 
         String writerNickname = userRepository.findById(userId)
                 .map(u -> u.getUserNickname())
@@ -112,7 +133,7 @@ public class CommunityThreadCommandService {
         // 자기 글에 자기 답글이면 보통 알림 제외(정책)
         if (!ownerUserId.equals(userId)) {
             ThreadReplyCreatedEvent ev = new ThreadReplyCreatedEvent(
-                    root.getId(),
+                    rootId,
                     ownerUserId,
                     userId,
                     writerNickname
@@ -125,6 +146,29 @@ public class CommunityThreadCommandService {
         return new CommunityReplyCommandResponse(saved.getId(), saved.isUpdated(), saved.getUpdatedAt());
     }
 
+    // root_id/depth 백필 전 행: 값이 있는 가장 가까운 조상(없으면 루트)까지 부모 체인을 한 번 따라가고,
+    // 지나온 행에도 채워 둔다 (변경 감지로 함께 저장되어 다음 요청부터는 체인을 따라가지 않는다)
+    private void resolveRoot(CommunityThread thread) {
+        Deque<CommunityThread> chain = new ArrayDeque<>();
+        CommunityThread ancestor = thread;
+        while (!ancestor.isRoot() && !ancestor.hasRoot()) {
+            chain.push(ancestor);
+            ancestor = ancestor.getParent();
+        }
+
+        Integer rootId = ancestor.getRootIdOrSelf();
+        int depth = ancestor.isRoot() ? 0 : ancestor.getDepth();
+        if (!ancestor.hasRoot()) {
+            ancestor.assignRoot(rootId, depth);
+        }
+
+        while (!chain.isEmpty()) {
+            chain.pop().assignRoot(rootId, ++depth);
+        }
+        log.info("[COMMUNITY] root_id/depth resolved on reply. threadId={}, rootId={}, depth={}",
+                thread.getId(), rootId, depth);
+    }
+
     public CommunityReplyCommandResponse updateReply(Integer replyId,
                                                      Integer userId,
                                                      UpdateCommunityReplyRequest request) {
@@ -148,13 +192,6 @@ public class CommunityThreadCommandService {
         }
 
         reply.markDeletedOnly();
-    }
-
-    private CommunityThread findRoot(CommunityThread node) {
-        CommunityThread cur = node;
-        while (cur.getParent() != null) {
-            cur = cur.getParent();
-        }
-        return cur;
+        summaryWriter.threadDeleted(reply);
     }
 }
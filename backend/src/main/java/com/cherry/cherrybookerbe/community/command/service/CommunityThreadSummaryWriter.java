@@ -0,0 +1,101 @@
+package com.cherry.cherrybookerbe.community.command.service;
+
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThreadSummary;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadSummaryRepository;
+import com.cherry.cherrybookerbe.community.query.cache.CommunityThreadFeedCache;
+import com.cherry.cherrybookerbe.quote.command.entity.Quote;
+import com.cherry.cherrybookerbe.quote.query.repository.QuoteQueryRepository;
+import com.cherry.cherrybookerbe.user.command.domain.entity.User;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+// thread_summary 읽기 모델 갱신. 원본 변경과 같은 트랜잭션에서 호출되어야 한다 (MANDATORY)
+// 목록 첫 페이지들에 보이는 값이 바뀌면 커밋 후 목록 캐시도 비운다
+@Component
+@Transactional(propagation = Propagation.MANDATORY)
+public class CommunityThreadSummaryWriter {
+
+    private final CommunityThreadSummaryRepository summaryRepository;
+    private final QuoteQueryRepository quoteRepository;
+    private final UserRepository userRepository;
+    private final CommunityThreadFeedCache feedCache;
+
+    public CommunityThreadSummaryWriter(CommunityThreadSummaryRepository summaryRepository,
+                                        QuoteQueryRepository quoteRepository,
+                                        UserRepository userRepository,
+                                        CommunityThreadFeedCache feedCache) {
+        this.summaryRepository = summaryRepository;
+        this.quoteRepository = quoteRepository;
+        this.userRepository = userRepository;
+        this.feedCache = feedCache;
+    }
+
+    // 루트 스레드 생성
+    public void threadCreated(CommunityThread thread) {
+        summaryRepository.save(CommunityThreadSummary.builder()
+                .threadId(thread.getId())
+                .userId(thread.getUserId())
+                .userNickname(userRepository.findById(thread.getUserId())
+                        .map(User::getUserNickname)
+                        .orElse(null))
+                .quoteId(thread.getQuoteId())
+                .quoteContent(quoteContent(thread.getQuoteId()))
+                .createdAt(thread.getCreatedAt() != null ? thread.getCreatedAt() : LocalDateTime.now())
+                .build());
+        feedCache.invalidateAfterCommit();
+    }
+
+    // 글귀 변경 (루트만 목록에 보인다)
+    public void quoteUpdated(CommunityThread thread) {
+        if (!thread.isRoot()) {
+            return;
+        }
+        summaryRepository.updateQuote(
+                thread.getId(),
+                thread.getQuoteId(),
+                quoteContent(thread.getQuoteId()),
+                LocalDateTime.now()
+        );
+        feedCache.invalidateAfterCommit();
+    }
+
+    // 답글 생성: 루트의 답글 수/마지막 답글 시각
+    public void replyCreated(CommunityThread reply) {
+        LocalDateTime repliedAt = reply.getCreatedAt() != null ? reply.getCreatedAt() : LocalDateTime.now();
+        summaryRepository.increaseReplyCount(reply.getRootId(), repliedAt);
+    }
+
+    // 삭제: 루트면 행 삭제, 답글이면 루트(root_id)의 답글 수 감소
+    public void threadDeleted(CommunityThread thread) {
+        if (thread.isRoot()) {
+            summaryRepository.deleteById(thread.getId());
+            feedCache.invalidateAfterCommit();
+        } else {
+            summaryRepository.decreaseReplyCount(thread.getRootId());
+        }
+    }
+
+    public void threadReported(Integer threadId) {
+        summaryRepository.increaseReportCount(threadId);
+    }
+
+    public void nicknameChanged(Integer userId, String nickname) {
+        if (summaryRepository.updateNicknameByUserId(userId, nickname) > 0) {
+            feedCache.invalidateAfterCommit();
+        }
+    }
+
+    private String quoteContent(Integer quoteId) {
+        if (quoteId == null) {
+            return null;
+        }
+        return quoteRepository.findById(quoteId.longValue())
+                .map(Quote::getContent)
+                .orElse(null);
+    }
+}
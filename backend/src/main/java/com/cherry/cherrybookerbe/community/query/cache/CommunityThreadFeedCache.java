@@ -0,0 +1,185 @@
+package com.cherry.cherrybookerbe.community.query.cache;
+
+import com.cherry.cherrybookerbe.common.dto.Pagination;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadListResponse;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 스레드 목록 앞쪽 페이지 캐시 (Redis 해시 하나: field = "page:size", value = 페이지 JSON).
+ * 루트 스레드 생성/수정/삭제(신고 삭제 포함)와 닉네임 변경 커밋 후 키를 통째로 지워 모든 파드가 같이 비워진다.
+ * 답글 수/마지막 답글 시각은 답글마다 비우지 않고 TTL 안에서만 늦게 반영된다.
+ */
+@Slf4j
+@Component
+public class CommunityThreadFeedCache {
+
+    static final String KEY = "community:feed";
+
+    // 캐시할 최대 페이지 크기 (그 이상은 매번 DB)
+    private static final int MAX_CACHED_SIZE = 50;
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int maxPages;
+    private final Duration ttl;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter errorCounter;
+
+    public CommunityThreadFeedCache(RedisTemplate<String, String> redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${community.feed-cache.enabled:true}") boolean enabled,
+                                    @Value("${community.feed-cache.max-pages:3}") int maxPages,
+                                    @Value("${community.feed-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.maxPages = Math.max(maxPages, 0);
+        this.ttl = Duration.ofSeconds(Math.max(ttlSeconds, 1));
+        this.hitCounter = Counter.builder("community.feed.cache")
+                .tag("result", "hit")
+                .description("스레드 목록 캐시 조회 결과 (hit / miss / error)")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("community.feed.cache")
+                .tag("result", "miss")
+                .description("스레드 목록 캐시 조회 결과 (hit / miss / error)")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("community.feed.cache")
+                .tag("result", "error")
+                .description("스레드 목록 캐시 조회 결과 (hit / miss / error)")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 대상 페이지면 Redis 에서 읽고, 없으면 loader 결과를 저장해 돌려준다.
+     * 대상이 아니거나 Redis 가 실패하면 loader 결과를 그대로 돌려준다.
+     */
+    public CommunityThreadListResponse getOrLoad(int page, int size, Supplier<CommunityThreadListResponse> loader) {
+        if (!isCacheable(page, size)) {
+            return loader.get();
+        }
+
+        String field = page + ":" + size;
+        try {
+            Object cached = redisTemplate.opsForHash().get(KEY, field);
+            if (cached != null) {
+                hitCounter.increment();
+                return objectMapper.readValue(cached.toString(), FeedPage.class).toResponse();
+            }
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.warn("[COMMUNITY] feed cache read failed. field={}", field, e);
+            return loader.get();
+        }
+
+        missCounter.increment();
+        CommunityThreadListResponse response = loader.get();
+        try {
+            redisTemplate.opsForHash().put(KEY, field, objectMapper.writeValueAsString(FeedPage.from(response)));
+            // 만료는 해시가 새로 생길 때만 건다 (페이지를 채울 때마다 늘리면 먼저 채운 페이지가 TTL 보다 오래 남는다)
+            Long remaining = redisTemplate.getExpire(KEY);
+            if (remaining == null || remaining < 0) {
+                redisTemplate.expire(KEY, ttl);
+            }
+        } catch (Exception e) {
+            log.warn("[COMMUNITY] feed cache write failed. field={}", field, e);
+        }
+        return response;
+    }
+
+    boolean isCacheable(int page, int size) {
+        return enabled && page < maxPages && size <= MAX_CACHED_SIZE;
+    }
+
+    // 트랜잭션 안이면 커밋 후에 비운다 (커밋 전 다른 요청이 옛 데이터를 다시 채우지 않도록)
+    public void invalidateAfterCommit() {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate();
+                }
+            });
+        } else {
+            invalidate();
+        }
+    }
+
+    public void invalidate() {
+        try {
+            redisTemplate.delete(KEY);
+        } catch (Exception e) {
+            // 못 지워도 TTL 이 지나면 새로 채워진다
+            log.warn("[COMMUNITY] feed cache invalidation failed", e);
+        }
+    }
+
+    // Redis 에 저장하는 형태 (응답 DTO 는 역직렬화용 생성자가 없어 별도 레코드로 둔다)
+    record FeedPage(List<FeedItem> threads, int currentPage, int totalPages, long totalItems) {
+
+        static FeedPage from(CommunityThreadListResponse response) {
+            Pagination pagination = response.getPagination();
+            return new FeedPage(
+                    response.getThreads().stream().map(FeedItem::from).toList(),
+                    pagination.getCurrentPage(),
+                    pagination.getTotalPages(),
+                    pagination.getTotalItems()
+            );
+        }
+
+        CommunityThreadListResponse toResponse() {
+            return new CommunityThreadListResponse(
+                    threads.stream().map(FeedItem::toResponse).toList(),
+                    Pagination.builder()
+                            .currentPage(currentPage)
+                            .totalPages(totalPages)
+                            .totalItems(totalItems)
+                            .build()
+            );
+        }
+    }
+
+    record FeedItem(Integer threadId,
+                    Integer userId,
+                    String userNickname,
+                    Integer quoteId,
+                    String quoteContent,
+                    LocalDateTime createdAt,
+                    LocalDateTime updatedAt,
+                    boolean updated,
+                    boolean deleted,
+                    int reportCount,
+                    int replyCount,
+                    LocalDateTime lastReplyAt) {
+
+        static FeedItem from(CommunityThreadSummaryResponse r) {
+            return new FeedItem(r.getThreadId(), r.getUserId(), r.getUserNickname(), r.getQuoteId(),
+                    r.getQuoteContent(), r.getCreatedAt(), r.getUpdatedAt(), r.isUpdated(), r.isDeleted(),
+                    r.getReportCount(), r.getReplyCount(), r.getLastReplyAt());
+        }
+
+        CommunityThreadSummaryResponse toResponse() {
+            return new CommunityThreadSummaryResponse(threadId, userId, userNickname, quoteId, quoteContent,
+                    createdAt, updatedAt, updated, deleted, reportCount, replyCount, lastReplyAt);
+        }
+    }
+}
@@ -2,12 +2,15 @@ package com.cherry.cherrybookerbe.community.query.controller;
 
 import com.cherry.cherrybookerbe.common.dto.ApiResponse;
 import com.cherry.cherrybookerbe.common.security.auth.UserPrincipal;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityReplyCursorResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadDetailResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadListResponse;
 import com.cherry.cherrybookerbe.community.query.service.CommunityThreadQueryService;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/community/threads")
@@ -39,6 +42,29 @@ public class CommunityThreadQueryController {
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    // 릴레이 목록 (작성순 커서 페이지네이션, 상세의 replyNextCursor 로 이어 받기)
+    @GetMapping("/{threadId}/replies")
+    public ResponseEntity<ApiResponse<CommunityReplyCursorResponse>> getReplies(
+            @PathVariable Integer threadId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(
+                ApiResponse.success(communityThreadQueryService.getReplies(threadId, cursor, size))
+        );
+    }
+
+    // 릴레이 전체를 JSON 배열로 스트리밍 (ApiResponse 로 감싸지 않음)
+    @GetMapping(value = "/{threadId}/replies/stream", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamReplies(@PathVariable Integer threadId) {
+        communityThreadQueryService.assertThreadExists(threadId);
+
+        StreamingResponseBody body = out -> communityThreadQueryService.writeReplies(threadId, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(body);
+    }
+
     //내 스레드 조회
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<CommunityThreadListResponse>> getMyThreads(
@@ -0,0 +1,16 @@
+package com.cherry.cherrybookerbe.community.query.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 릴레이 목록 (작성순, 다음 페이지는 nextCursor 로 요청)
+@Getter
+@Builder
+public class CommunityReplyCursorResponse {
+
+    private final List<CommunityReplyResponse> replies;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
@@ -18,7 +18,10 @@ public class CommunityThreadDetailResponse {
     private final boolean updated;
     private final boolean deleted;
     private final int reportCount;
+    // 릴레이 첫 페이지. 나머지는 replyNextCursor 로 /replies 에서 이어 받는다
     private final List<CommunityReplyResponse> replies;
+    private final String replyNextCursor;
+    private final boolean hasMoreReplies;
 
     public CommunityThreadDetailResponse(Integer threadId,
                                          Integer userId,
@@ -30,7 +33,9 @@ public class CommunityThreadDetailResponse {
                                          boolean updated,
                                          boolean deleted,
                                          int reportCount,
-                                         List<CommunityReplyResponse> replies) {
+                                         List<CommunityReplyResponse> replies,
+                                         String replyNextCursor,
+                                         boolean hasMoreReplies) {
         this.threadId = threadId;
         this.userId = userId;
         this.userNickname = userNickname;
@@ -42,5 +47,7 @@ public class CommunityThreadDetailResponse {
         this.deleted = deleted;
         this.reportCount = reportCount;
         this.replies = replies;
+        this.replyNextCursor = replyNextCursor;
+        this.hasMoreReplies = hasMoreReplies;
     }
 }
@@ -17,6 +17,8 @@ public class CommunityThreadSummaryResponse {
     private final boolean updated;
     private final boolean deleted;
     private final int reportCount;
+    private final int replyCount;
+    private final LocalDateTime lastReplyAt;
 
     public CommunityThreadSummaryResponse(Integer threadId,
                                           Integer userId,
@@ -27,7 +29,9 @@ public class CommunityThreadSummaryResponse {
                                           LocalDateTime updatedAt,
                                           boolean updated,
                                           boolean deleted,
-                                          int reportCount) {
+                                          int reportCount,
+                                          int replyCount,
+                                          LocalDateTime lastReplyAt) {
         this.threadId = threadId;
         this.userId = userId;
         this.userNickname = userNickname;
@@ -38,6 +42,8 @@ public class CommunityThreadSummaryResponse {
         this.updated = updated;
         this.deleted = deleted;
         this.reportCount = reportCount;
+        this.replyCount = replyCount;
+        this.lastReplyAt = lastReplyAt;
     }
 
 }
@@ -1,26 +1,31 @@
 package com.cherry.cherrybookerbe.community.query.service;
 
+import com.cherry.cherrybookerbe.common.dto.KeysetCursor;
 import com.cherry.cherrybookerbe.common.dto.Pagination;
-import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThreadSummary;
 import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadRepository;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadRepository.ThreadDetailRow;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadSummaryRepository;
+import com.cherry.cherrybookerbe.community.query.cache.CommunityThreadFeedCache;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityReplyCursorResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityReplyResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadDetailResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadListResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadSummaryResponse;
 
-import java.util.ArrayList;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
-import com.cherry.cherrybookerbe.quote.command.entity.Quote;
-import com.cherry.cherrybookerbe.quote.query.repository.QuoteQueryRepository;
-import com.cherry.cherrybookerbe.user.command.domain.entity.User;
-import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -30,111 +35,112 @@ import org.springframework.web.server.ResponseStatusException;
 @Transactional(readOnly = true)
 public class CommunityThreadQueryService {
 
+    // 한 번에 요청할 수 있는 릴레이 수 상한
+    private static final int MAX_REPLY_PAGE_SIZE = 200;
+    // 스트리밍 응답은 이 개수마다 flush
+    private static final int STREAM_FLUSH_EVERY = 100;
+
     private final CommunityThreadRepository communityThreadRepository;
-    private final QuoteQueryRepository quoteRepository;
-    private final UserRepository userRepository;
+    private final CommunityThreadSummaryRepository summaryRepository;
+    private final CommunityThreadFeedCache feedCache;
+    private final ObjectWriter replyWriter;
+    private final int replyPageSize;
 
     public CommunityThreadQueryService(CommunityThreadRepository communityThreadRepository,
-                                       QuoteQueryRepository quoteRepository, UserRepository userRepository) {
+                                       CommunityThreadSummaryRepository summaryRepository,
+                                       CommunityThreadFeedCache feedCache,
+                                       ObjectMapper objectMapper,
+                                       @Value("${community.thread.reply-page-size:50}") int replyPageSize) {
         this.communityThreadRepository = communityThreadRepository;
-        this.quoteRepository = quoteRepository;
-        this.userRepository = userRepository;
+        this.summaryRepository = summaryRepository;
+        this.feedCache = feedCache;
+        // 행마다 flush 하지 않고 STREAM_FLUSH_EVERY 단위로 묶는다
+        this.replyWriter = objectMapper.writerFor(CommunityReplyResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.replyPageSize = Math.min(Math.max(replyPageSize, 1), MAX_REPLY_PAGE_SIZE);
     }
 
-    /** 스레드 목록 조회 (페이징) */
+    /** 스레드 목록 조회 (페이징) - 앞쪽 페이지는 Redis 캐시, 그 외는 thread_summary 읽기 모델에서 바로 읽는다 */
     public CommunityThreadListResponse getThreadList(int page, int size) {
 
         // page < 0 방어
         int pageIndex = Math.max(page, 0);
         int pageSize = size <= 0 ? 10 : size;   // 기본 10개
 
-        Pageable pageable = PageRequest.of(
-                pageIndex,
-                pageSize,
-                Sort.by(Sort.Direction.DESC, "createdAt")   // 최신 스레드 먼저
-        );
-
-        Page<CommunityThread> threadPage =
-                communityThreadRepository.findByDeletedFalseAndParentIsNull(pageable);
-
-        List<CommunityThread> threads = threadPage.getContent();
-
-        // 1) 글귀 ID 모아서 한 번에 조회 (기존)
-        List<Long> quoteIds = threads.stream()
-                .map(CommunityThread::getQuoteId)
-                .map(Integer::longValue)
-                .distinct()
-                .toList();
-
-        Map<Long, Quote> quoteMap = quoteRepository.findAllById(quoteIds)
-                .stream()
-                .collect(Collectors.toMap(Quote::getQuoteId, q -> q));
-
-        // 작성자 userId 들 모아서 한 번에 조회
-        List<Integer> userIds = threads.stream()
-                .map(CommunityThread::getUserId)
-                .distinct()
-                .toList();
-
-        Map<Integer, User> userMap = userRepository.findAllById(userIds)
-                .stream()
-                .collect(Collectors.toMap(User::getUserId, u -> u));
-
-        // DTO 매핑할 때 닉네임도 함께 넣기
-        List<CommunityThreadSummaryResponse> summaries = threads.stream()
-                .map(thread -> mapThreadSummary(thread, quoteMap, userMap))
-                .toList();
-
-        Pagination pagination = Pagination.builder()
-                .currentPage(threadPage.getNumber())
-                .totalPages(threadPage.getTotalPages())
-                .totalItems(threadPage.getTotalElements())
-                .build();
-
-        return new CommunityThreadListResponse(summaries, pagination);
+        // 최신 스레드 먼저 (정렬은 메서드 이름에 고정: created_at, thread_id 인덱스 순서)
+        return feedCache.getOrLoad(pageIndex, pageSize, () -> toListResponse(
+                summaryRepository.findAllByOrderByCreatedAtDescThreadIdDesc(PageRequest.of(pageIndex, pageSize))));
     }
 
 
-    /** 스레드 상세 조회 */
+    /**
+     * 스레드 상세 조회 - 대상 스레드 + 릴레이 첫 페이지를 프로젝션 쿼리 한 번으로 읽는다.
+     * 릴레이가 더 있으면 replyNextCursor 로 getReplies 에서 이어 받는다.
+     */
     public CommunityThreadDetailResponse getThreadDetail(Integer threadId) {
-        CommunityThread thread = communityThreadRepository.findByIdAndDeletedFalse(threadId)
-                .orElseThrow(() -> new ResponseStatusException(
-                        HttpStatus.NOT_FOUND, "Thread not found: " + threadId));
-
-        // 루트 + 자식 릴레이들의 quoteId 한번에 수집
-        List<CommunityThread> all = new ArrayList<>();
-        all.add(thread);
-        all.addAll(thread.getChildren());
-
-        // 글귀 조회
-        List<Long> quoteIds = all.stream()
-                .map(CommunityThread::getQuoteId)
-                .map(Integer::longValue)
-                .distinct()
-                .toList();
+        // 대상 스레드 1행 + 다음 페이지 존재 여부 확인용 1행
+        List<ThreadDetailRow> rows =
+                communityThreadRepository.findDetailRows(threadId, PageRequest.of(0, replyPageSize + 2));
+
+        // 첫 행이 대상 스레드가 아니면 없거나 삭제된 스레드
+        if (rows.isEmpty() || !rows.get(0).getThreadId().equals(threadId)) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Thread not found: " + threadId);
+        }
 
-        Map<Long, Quote> quoteMap = quoteRepository.findAllById(quoteIds)
-                .stream()
-                .collect(Collectors.toMap(Quote::getQuoteId, q -> q));
+        ThreadDetailRow thread = rows.get(0);
+        ReplyPage replies = toReplyPage(rows.subList(1, rows.size()), replyPageSize);
 
-        // 작성자 userId 모아서 한번에 조회
-        List<Integer> userIds = all.stream()
-                .map(CommunityThread::getUserId)
-                .distinct()
-                .toList();
+        return mapThreadDetail(thread, replies);
+    }
 
-        Map<Integer, User> userMap = userRepository.findAllById(userIds)
-                .stream()
-                .collect(Collectors.toMap(User::getUserId, u -> u));
+    /** 릴레이 목록 (작성순 커서 페이지네이션). cursor 가 없으면 첫 페이지 */
+    public CommunityReplyCursorResponse getReplies(Integer threadId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? replyPageSize : Math.min(size, MAX_REPLY_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인용으로 하나 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ThreadDetailRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = communityThreadRepository.findReplyRows(threadId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = communityThreadRepository.findReplyRowsAfter(threadId, after.createdAt(), after.id(), limit);
+        }
 
-        String threadContent = getQuoteContent(quoteMap, thread.getQuoteId());
-        String nickname = getUserNickname(userMap, thread.getUserId());
+        ReplyPage page = toReplyPage(rows, pageSize);
+        return CommunityReplyCursorResponse.builder()
+                .replies(page.replies())
+                .nextCursor(page.nextCursor())
+                .hasNext(page.nextCursor() != null)
+                .build();
+    }
 
-        List<CommunityReplyResponse> replies = thread.getChildren().stream()
-                .map(child -> mapReply(child, quoteMap, userMap))
-                .toList();
+    /** 스트리밍 전에 호출: 없거나 삭제된 스레드면 404 (응답 커밋 전에 상태 코드를 정해야 한다) */
+    public void assertThreadExists(Integer threadId) {
+        if (!communityThreadRepository.existsByIdAndDeletedFalse(threadId)) {
+            throw new ResponseStatusException(
+                    HttpStatus.NOT_FOUND, "Thread not found: " + threadId);
+        }
+    }
 
-        return mapThreadDetail(thread, nickname, threadContent, replies);
+    /**
+     * 릴레이 전체를 JSON 배열로 out 에 바로 쓴다. 행을 하나씩 읽어 쓰므로 릴레이 수와 무관하게 힙 사용량이 일정하다.
+     * StreamingResponseBody 스레드에서 프록시를 통해 호출되어야 스트림이 트랜잭션 안에서 열린다.
+     */
+    public void writeReplies(Integer threadId, OutputStream out) throws IOException {
+        try (Stream<ThreadDetailRow> rows = communityThreadRepository.streamReplyRows(threadId);
+             JsonGenerator generator = replyWriter.createGenerator(out)) {
+            generator.writeStartArray();
+            int written = 0;
+            for (Iterator<ThreadDetailRow> it = rows.iterator(); it.hasNext(); ) {
+                replyWriter.writeValue(generator, mapReply(it.next()));
+                if (++written % STREAM_FLUSH_EVERY == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
     }
 
     /** [추가] 내가 올린 스레드 목록 조회 (루트 글만, 페이징) */
@@ -147,120 +153,87 @@ public class CommunityThreadQueryService {
         int pageIndex = Math.max(page, 0);
         int pageSize = size <= 0 ? 10 : size;
 
-        Pageable pageable = PageRequest.of(
-                pageIndex,
-                pageSize,
-                Sort.by(Sort.Direction.DESC, "createdAt")
-        );
+        Page<CommunityThreadSummary> summaryPage =
+                summaryRepository.findByUserIdOrderByCreatedAtDescThreadIdDesc(userId, PageRequest.of(pageIndex, pageSize));
 
-        Page<CommunityThread> threadPage =
-                communityThreadRepository.findByUserIdAndDeletedFalseAndParentIsNull(userId, pageable);
-
-        List<CommunityThread> threads = threadPage.getContent();
-
-        // quoteId 모아서 조회
-        List<Long> quoteIds = threads.stream()
-                .map(CommunityThread::getQuoteId)
-                .map(Integer::longValue)
-                .distinct()
-                .toList();
-
-        Map<Long, Quote> quoteMap = quoteRepository.findAllById(quoteIds)
-                .stream()
-                .collect(Collectors.toMap(Quote::getQuoteId, q -> q));
+        return toListResponse(summaryPage);
+    }
 
-        // 작성자 userId 모아서 조회
-        List<Integer> userIds = threads.stream()
-                .map(CommunityThread::getUserId)
-                .distinct()
-                .toList();
 
-        Map<Integer, User> userMap = userRepository.findAllById(userIds)
-                .stream()
-                .collect(Collectors.toMap(User::getUserId, u -> u));
+    /* ====== 내부 헬퍼 메서드들 ====== */
 
-        List<CommunityThreadSummaryResponse> summaries = threads.stream()
-                .map(thread -> mapThreadSummary(thread, quoteMap, userMap))
+    private CommunityThreadListResponse toListResponse(Page<CommunityThreadSummary> summaryPage) {
+        List<CommunityThreadSummaryResponse> summaries = summaryPage.getContent().stream()
+                .map(this::mapThreadSummary)
                 .toList();
 
         Pagination pagination = Pagination.builder()
-                .currentPage(threadPage.getNumber())
-                .totalPages(threadPage.getTotalPages())
-                .totalItems(threadPage.getTotalElements())
+                .currentPage(summaryPage.getNumber())
+                .totalPages(summaryPage.getTotalPages())
+                .totalItems(summaryPage.getTotalElements())
                 .build();
 
         return new CommunityThreadListResponse(summaries, pagination);
     }
 
-
-    /* ====== 내부 헬퍼 메서드들 ====== */
-
-    private String getUserNickname(Map<Integer, User> userMap, Integer userId) {
-        if (userId == null) return null;
-        User u = userMap.get(userId);
-        return u != null ? u.getUserNickname() : "알 수 없음";
-    }
-
-    private String getQuoteContent(Map<Long, Quote> map, Integer quoteId) {
-        if (quoteId == null) return null;
-        Quote q = map.get(quoteId.longValue());
-        return q != null ? q.getContent() : null;
+    private CommunityThreadSummaryResponse mapThreadSummary(CommunityThreadSummary summary) {
+        return new CommunityThreadSummaryResponse(
+                summary.getThreadId(),
+                summary.getUserId(),
+                nicknameOrUnknown(summary.getUserNickname()),
+                summary.getQuoteId(),
+                summary.getQuoteContent(),
+                summary.getCreatedAt(),
+                summary.getUpdatedAt(),
+                summary.isUpdated(),
+                false,  // 삭제된 루트는 읽기 모델에서 빠진다
+                summary.getReportCount(),
+                summary.getReplyCount(),
+                summary.getLastReplyAt()
+        );
     }
 
-    private CommunityThreadSummaryResponse mapThreadSummary(CommunityThread thread,
-                                                            Map<Long, Quote> quoteMap,
-                                                            Map<Integer, User> userMap) {
 
-        String content = getQuoteContent(quoteMap, thread.getQuoteId());
+    private ReplyPage toReplyPage(List<ThreadDetailRow> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<ThreadDetailRow> page = hasNext ? rows.subList(0, pageSize) : rows;
 
-        String nickname = getUserNickname(userMap, thread.getUserId());
-
-        return new CommunityThreadSummaryResponse(
-                thread.getId(),
-                thread.getUserId(),
-                nickname,
-                thread.getQuoteId(),
-                content,
-                thread.getCreatedAt(),
-                thread.getUpdatedAt(),
-                thread.isUpdated(),
-                thread.isDeleted(),
-                thread.getReportCount()
-        );
+        String nextCursor = null;
+        if (hasNext) {
+            ThreadDetailRow last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getThreadId()).encode();
+        }
+        return new ReplyPage(page.stream().map(this::mapReply).toList(), nextCursor);
     }
 
+    private record ReplyPage(List<CommunityReplyResponse> replies, String nextCursor) {
+    }
 
-    private CommunityThreadDetailResponse mapThreadDetail(CommunityThread thread,
-                                                          String userNickname,
-                                                          String quoteContent,
-                                                          List<CommunityReplyResponse> replies) {
+    private CommunityThreadDetailResponse mapThreadDetail(ThreadDetailRow thread, ReplyPage replies) {
         return new CommunityThreadDetailResponse(
-                thread.getId(),
+                thread.getThreadId(),
                 thread.getUserId(),
-                userNickname,
+                nicknameOrUnknown(thread.getUserNickname()),
                 thread.getQuoteId(),
-                quoteContent,
+                thread.getQuoteContent(),
                 thread.getCreatedAt(),
                 thread.getUpdatedAt(),
                 thread.isUpdated(),
                 thread.isDeleted(),
                 thread.getReportCount(),
-                replies
+                replies.replies(),
+                replies.nextCursor(),
+                replies.nextCursor() != null
         );
     }
 
-    private CommunityReplyResponse mapReply(CommunityThread reply,
-                                            Map<Long, Quote> quoteMap,
-                                            Map<Integer, User> userMap) {
-        User author = userMap.get(reply.getUserId());
-        String nickname = author != null ? author.getUserNickname() : "알 수 없음";
-
+    private CommunityReplyResponse mapReply(ThreadDetailRow reply) {
         return new CommunityReplyResponse(
-                reply.getId(),
+                reply.getThreadId(),
                 reply.getUserId(),
-                nickname,
+                nicknameOrUnknown(reply.getUserNickname()),
                 reply.getQuoteId(),
-                getQuoteContent(quoteMap, reply.getQuoteId()),
+                reply.getQuoteContent(),
                 reply.getCreatedAt(),
                 reply.getUpdatedAt(),
                 reply.isUpdated(),
@@ -269,4 +242,8 @@ public class CommunityThreadQueryService {
         );
     }
 
-}
\ No newline at end of file
+    private String nicknameOrUnknown(String nickname) {
+        return nickname != null ? nickname : "알 수 없음";
+    }
+
+}
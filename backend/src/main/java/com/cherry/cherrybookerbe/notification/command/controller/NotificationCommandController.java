@@ -43,7 +43,7 @@ public class NotificationCommandController {
     }
 
     @PatchMapping("/api/notifications/me/read-all")
-    public ResponseEntity<ApiResponse<Void>> markAllRead(
+    public ResponseEntity<ApiResponse<Integer>> markAllRead(
             @AuthenticationPrincipal UserPrincipal principal
     ) {
         if (principal == null || principal.userId() == null) {
@@ -51,9 +51,9 @@ public class NotificationCommandController {
         }
 
         Integer userId = principal.userId();
-        commandService.markAllRead(userId);
+        int updated = commandService.markAllRead(userId);
 
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return ResponseEntity.ok(ApiResponse.success(updated));
     }
 
     @DeleteMapping("/api/notifications/me/{notificationId}")
@@ -72,7 +72,7 @@ public class NotificationCommandController {
     }
 
     @DeleteMapping("/api/notifications/me/read")
-    public ResponseEntity<ApiResponse<Void>> deleteAllRead(
+    public ResponseEntity<ApiResponse<Long>> deleteAllRead(
             @AuthenticationPrincipal UserPrincipal principal
     ) {
         if (principal == null || principal.userId() == null) {
@@ -80,9 +80,9 @@ public class NotificationCommandController {
         }
 
         Integer userId = principal.userId();
-        commandService.deleteAllRead(userId);
+        long deleted = commandService.deleteAllRead(userId);
 
-        return ResponseEntity.ok(ApiResponse.success(null));
+        return ResponseEntity.ok(ApiResponse.success(deleted));
     }
 
     // ===== 관리자 템플릿 CUD =====
@@ -129,11 +129,12 @@ public class NotificationCommandController {
 
     @PreAuthorize("hasRole('ADMIN')")
     @PostMapping("/api/admin/notifications/templates/{templateId}/send-all")
-    public ResponseEntity<ApiResponse<Void>> sendToAllByTemplate(
+    public ResponseEntity<ApiResponse<Integer>> sendToAllByTemplate(
             @PathVariable Integer templateId,
             @RequestBody(required = false) NotificationBroadcastRequest request
     ) {
-        commandService.sendToAllByTemplate(templateId, request);
-        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(null));
+        // 발송은 비동기로 진행. 반환된 발송 로그 id 로 진행률 조회
+        Integer sendLogId = commandService.sendToAllByTemplate(templateId, request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(ApiResponse.success(sendLogId));
     }
 }
@@ -10,7 +10,16 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Entity
-@Table(name = "alarm_log") // DB 테이블은 그대로 사용
+@Table(
+        name = "alarm_log", // DB 테이블은 그대로 사용
+        indexes = {
+                @Index(name = "idx_alarm_log_user_read", columnList = "user_id, is_read"),
+                // 내 알림 커서 페이지네이션 (created_at, alarm_id) seek 용
+                @Index(name = "idx_alarm_log_user_created", columnList = "user_id, created_at, alarm_id"),
+                // 보관 기간 정리(NotificationRetentionJob)용
+                @Index(name = "idx_alarm_log_read_created", columnList = "is_read, created_at")
+        }
+)
 public class Notification extends BaseTimeEntity {
 
     @Id
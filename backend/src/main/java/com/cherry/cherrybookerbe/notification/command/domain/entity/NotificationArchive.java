@@ -0,0 +1,41 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 보관 기간이 지난 읽은 알림 아카이브 (NotificationRetentionJob 이 alarm_log 에서 옮김, 조회 API 없음)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "alarm_log_archive")
+public class NotificationArchive {
+
+    @Id
+    @Column(name = "alarm_id")
+    private Integer id;
+
+    @Column(name = "user_id", nullable = false)
+    private Integer userId;
+
+    @Column(name = "alarm_title", nullable = false, length = 150)
+    private String title;
+
+    @Column(name = "alarm_context", nullable = false, length = 255)
+    private String content;
+
+    @Column(name = "is_read", nullable = false)
+    private boolean read;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -0,0 +1,48 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 전체 발송 잡의 userId 구간 하나. cursor 까지는 저장(또는 실패 집계)이 끝났으므로 파드가 죽으면 cursor 다음부터 이어서 발송
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "alarm_broadcast_partition",
+        indexes = @Index(name = "idx_alarm_broadcast_partition_log", columnList = "send_log_id")
+)
+public class NotificationBroadcastPartition {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "partition_id")
+    private Integer id;
+
+    @Column(name = "send_log_id", nullable = false)
+    private Integer sendLogId;
+
+    // (afterUserId, toUserId] 구간
+    @Column(name = "after_user_id", nullable = false)
+    private int afterUserId;
+
+    @Column(name = "to_user_id", nullable = false)
+    private int toUserId;
+
+    // 마지막으로 처리한 userId (청크 커밋과 같은 트랜잭션에서 갱신)
+    @Column(name = "cursor_user_id", nullable = false)
+    private int cursorUserId;
+
+    @Column(name = "is_done", nullable = false)
+    private boolean done;
+
+    @Builder
+    private NotificationBroadcastPartition(Integer sendLogId, int afterUserId, int toUserId) {
+        this.sendLogId = sendLogId;
+        this.afterUserId = afterUserId;
+        this.toUserId = toUserId;
+        this.cursorUserId = afterUserId;
+    }
+}
@@ -0,0 +1,33 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import com.cherry.cherrybookerbe.common.model.entity.BaseTimeEntity;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 전체 공지 (fan-out-on-read 모드): 한 번만 저장하고, 유저별 alarm_log 행은 조회 시점에 만든다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "alarm_notice")
+public class NotificationNotice extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notice_id")
+    private Integer id;
+
+    @Column(name = "notice_title", nullable = false, length = 150)
+    private String title;
+
+    @Column(name = "notice_context", nullable = false, length = 255)
+    private String content;
+
+    @Builder
+    private NotificationNotice(String title, String content) {
+        this.title = title;
+        this.content = content;
+    }
+}
@@ -0,0 +1,21 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 유저별로 alarm_log 에 옮겨 둔 마지막 공지 id
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "alarm_notice_watermark")
+public class NotificationNoticeWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "last_notice_id", nullable = false)
+    private int lastNoticeId;
+}
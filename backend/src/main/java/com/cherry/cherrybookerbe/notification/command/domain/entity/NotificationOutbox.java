@@ -0,0 +1,79 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import com.cherry.cherrybookerbe.common.model.entity.BaseTimeEntity;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationOutboxStatus;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 알림 발송 outbox: 원본 트랜잭션(예: 답글 작성)과 같이 커밋되고, relay 가 읽어서 alarm_log/SSE 로 처리
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "alarm_outbox",
+        indexes = @Index(name = "idx_alarm_outbox_status_next", columnList = "status, next_attempt_at"))
+public class NotificationOutbox extends BaseTimeEntity {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "outbox_id")
+    private Long id;
+
+    @Column(name = "event_type", nullable = false, length = 50)
+    private String eventType;
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "TEXT")
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private NotificationOutboxStatus status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Builder
+    private NotificationOutbox(String eventType, String payload) {
+        this.eventType = eventType;
+        this.payload = payload;
+        this.status = NotificationOutboxStatus.PENDING;
+        this.attempts = 0;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public void markDone() {
+        this.status = NotificationOutboxStatus.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    // 실패: maxAttempts 에 도달하면 FAILED, 아니면 retryDelay 뒤에 다시 시도
+    public void markRetry(String error, int maxAttempts, long retryDelaySeconds) {
+        this.attempts++;
+        this.lastError = error == null ? null
+                : error.substring(0, Math.min(error.length(), MAX_ERROR_LENGTH));
+
+        if (this.attempts >= maxAttempts) {
+            this.status = NotificationOutboxStatus.FAILED;
+            this.processedAt = LocalDateTime.now();
+        } else {
+            this.nextAttemptAt = LocalDateTime.now().plusSeconds(retryDelaySeconds);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 발송 로그별 SSE 전달 지연 히스토그램 (버킷 상한 ms 당 건수). p50/p99 는 조회 시 버킷에서 계산
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "alarm_send_latency",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_alarm_send_latency_log_bucket",
+                columnNames = {"send_log_id", "bucket_ms"}
+        )
+)
+public class NotificationSendLatency {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "latency_id")
+    private Long id;
+
+    @Column(name = "send_log_id", nullable = false)
+    private Integer sendLogId;
+
+    @Column(name = "bucket_ms", nullable = false)
+    private long bucketMs;
+
+    @Column(name = "event_count", nullable = false)
+    private long count;
+}
@@ -32,18 +32,72 @@ public class NotificationSendLog extends BaseTimeEntity {
     @Column(name = "template_context", nullable = false, length = 255)
     private String bodySnapshot;
 
+    // 치환된 제목. 전체 발송 잡을 다른 파드가 이어받을 때 사용 (이전 로그는 null)
+    @Column(name = "title_snapshot", length = 255)
+    private String titleSnapshot;
+
     @Column(name = "sent_at", nullable = false)
     private LocalDateTime sentAt;
 
+    // 전체 발송 진행률 (단건 발송은 1/1). 워커들이 UPDATE ... SET sent_count = sent_count + ? 로 누적
+    @Column(name = "total_count", nullable = false)
+    private int totalCount;
+
+    @Column(name = "sent_count", nullable = false)
+    private int sentCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private int failedCount;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // 배달 집계: SSE 로 실제 write 된 수 / 연결은 있었지만 큐 넘침·끊김으로 못 보낸 수 (파드별로 모아 주기적으로 누적)
+    @Column(name = "pushed_count", nullable = false)
+    private int pushedCount;
+
+    @Column(name = "dropped_count", nullable = false)
+    private int droppedCount;
+
+    // 전체 발송 잡 리스: 실행 중인 파드가 청크마다 늘린다. 지나도록 PENDING 이면 파드가 죽은 것으로 보고 이어받는다
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
     @Builder
     private NotificationSendLog(NotificationTemplate template,
                                 NotificationSendStatus status,
                                 String bodySnapshot,
-                                LocalDateTime sentAt) {
+                                String titleSnapshot,
+                                LocalDateTime sentAt,
+                                int totalCount,
+                                int sentCount) {
         this.template = template;
         this.status = status != null ? status : NotificationSendStatus.PENDING;
         this.bodySnapshot = bodySnapshot;
+        this.titleSnapshot = titleSnapshot;
         this.sentAt = sentAt != null ? sentAt : LocalDateTime.now();
+        this.totalCount = totalCount;
+        this.sentCount = sentCount;
+        if (this.status != NotificationSendStatus.PENDING) {
+            this.finishedAt = this.sentAt;
+        }
+    }
+
+    public int getRemainingCount() {
+        return Math.max(totalCount - sentCount - failedCount, 0);
+    }
+
+    // 저장은 됐지만 라이브로 받지 못한 수 (접속 중이 아니었던 유저). 집계 반영 전이면 일시적으로 크게 나온다
+    public int getOfflineCount() {
+        return Math.max(sentCount - pushedCount - droppedCount, 0);
+    }
+
+    // 저장된 알림 중 라이브로 전달된 비율 (0~1). 저장된 알림이 없으면 null
+    public Double getDeliveryRate() {
+        if (sentCount == 0) {
+            return null;
+        }
+        return Math.min((double) pushedCount / sentCount, 1.0);
     }
 
     public void markSuccess() {
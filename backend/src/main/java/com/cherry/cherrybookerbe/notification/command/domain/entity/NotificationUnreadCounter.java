@@ -0,0 +1,21 @@
+package com.cherry.cherrybookerbe.notification.command.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 유저별 미읽음 알림 수 (alarm_log 를 매번 COUNT 하지 않도록 증감으로 유지)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "alarm_unread_counter")
+public class NotificationUnreadCounter {
+
+    @Id
+    @Column(name = "user_id")
+    private Integer userId;
+
+    @Column(name = "unread_count", nullable = false)
+    private long unreadCount;
+}
@@ -0,0 +1,7 @@
+package com.cherry.cherrybookerbe.notification.command.domain.enums;
+
+public enum NotificationOutboxStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
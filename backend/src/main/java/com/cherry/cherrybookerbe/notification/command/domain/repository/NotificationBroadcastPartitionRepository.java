@@ -0,0 +1,28 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationBroadcastPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public interface NotificationBroadcastPartitionRepository extends JpaRepository<NotificationBroadcastPartition, Integer> {
+
+    boolean existsBySendLogId(Integer sendLogId);
+
+    List<NotificationBroadcastPartition> findBySendLogIdAndDoneFalseOrderByAfterUserId(Integer sendLogId);
+
+    // 성공한 청크는 그 청크의 INSERT 와 같은 트랜잭션에서 호출됨 (REQUIRED 로 합류)
+    @Transactional
+    @Modifying
+    @Query("update NotificationBroadcastPartition p set p.cursorUserId = :cursor where p.id = :id and p.cursorUserId < :cursor")
+    int advance(@Param("id") Integer id, @Param("cursor") int cursorUserId);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationBroadcastPartition p set p.done = true where p.id = :id")
+    int markDone(@Param("id") Integer id);
+}
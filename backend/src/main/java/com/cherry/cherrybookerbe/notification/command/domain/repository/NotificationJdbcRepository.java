@@ -0,0 +1,138 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// alarm_log 대량 처리용 JDBC 레포지토리 (IDENTITY 키라 JPA saveAll 은 행마다 INSERT 가 나감)
+@Repository
+public class NotificationJdbcRepository {
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO alarm_log (user_id, alarm_title, alarm_context, is_read, created_at) VALUES ";
+    private static final String INSERT_ROW = "(?, ?, ?, 0, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public NotificationJdbcRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 같은 제목/본문의 알림을 userIds 전원에게 multi-row INSERT 한 번으로 저장한다.
+     * 반환값은 userIds 순서와 같은 alarm_id 목록.
+     */
+    public List<Integer> insertAll(List<Integer> userIds, String title, String content, LocalDateTime createdAt) {
+        if (userIds.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(userIds.size(), INSERT_ROW));
+        Timestamp ts = Timestamp.valueOf(createdAt);
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+
+        jdbcTemplate.update(con -> {
+            PreparedStatement ps = con.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS);
+            int idx = 1;
+            for (Integer userId : userIds) {
+                ps.setInt(idx++, userId);
+                ps.setString(idx++, title);
+                ps.setString(idx++, content);
+                ps.setTimestamp(idx++, ts);
+            }
+            return ps;
+        }, keyHolder);
+
+        List<Map<String, Object>> keys = keyHolder.getKeyList();
+        if (keys.size() == userIds.size()) {
+            List<Integer> ids = new ArrayList<>(keys.size());
+            for (Map<String, Object> key : keys) {
+                ids.add(((Number) key.values().iterator().next()).intValue());
+            }
+            return ids;
+        }
+
+        // 드라이버가 첫 번째 키만 돌려주는 경우: 같은 청크(created_at 동일)의 행을 다시 읽어 매핑
+        Integer firstId = keys.isEmpty() ? 0 : ((Number) keys.get(0).values().iterator().next()).intValue();
+        return findIdsOfChunk(userIds, firstId, ts);
+    }
+
+    private List<Integer> findIdsOfChunk(List<Integer> userIds, Integer firstId, Timestamp createdAt) {
+        String in = String.join(", ", Collections.nCopies(userIds.size(), "?"));
+        List<Object> args = new ArrayList<>(userIds.size() + 2);
+        args.add(firstId);
+        args.add(createdAt);
+        args.addAll(userIds);
+
+        Map<Integer, Integer> idByUser = new HashMap<>();
+        jdbcTemplate.query(
+                "SELECT alarm_id, user_id FROM alarm_log WHERE alarm_id >= ? AND created_at = ? AND user_id IN (" + in + ")",
+                rs -> {
+                    idByUser.merge(rs.getInt("user_id"), rs.getInt("alarm_id"), Math::min);
+                },
+                args.toArray()
+        );
+
+        return userIds.stream().map(idByUser::get).toList();
+    }
+
+    // 공지 (afterNoticeId, upToNoticeId] 중 since 이후 것을 한 유저의 alarm_log 로 복사. 반환값 = 생성된 알림 수
+    public int materializeNotices(Integer userId, int afterNoticeId, int upToNoticeId, LocalDateTime since) {
+        return jdbcTemplate.update(
+                "INSERT INTO alarm_log (user_id, alarm_title, alarm_context, is_read, created_at) " +
+                        "SELECT ?, notice_title, notice_context, 0, created_at FROM alarm_notice " +
+                        "WHERE notice_id > ? AND notice_id <= ? AND created_at >= ? ORDER BY notice_id",
+                userId,
+                afterNoticeId,
+                upToNoticeId,
+                Timestamp.valueOf(since)
+        );
+    }
+
+    // 보관 기간 정리 대상: before 이전에 생성된 읽은 알림 id (오래된 순)
+    // (is_read, created_at) 인덱스 순서(+ PK)로 정렬해 filesort 없이 앞에서부터 limit 개만 읽는다.
+    // 처리한 배치는 alarm_log 에서 지워지므로 다음 배치도 인덱스 맨 앞에서 시작하면 된다
+    public List<Integer> findReadIdsCreatedBefore(LocalDateTime before, int limit) {
+        return jdbcTemplate.queryForList(
+                "SELECT alarm_id FROM alarm_log WHERE is_read = 1 AND created_at < ? " +
+                        "ORDER BY created_at, alarm_id LIMIT ?",
+                Integer.class,
+                Timestamp.valueOf(before),
+                limit
+        );
+    }
+
+    // alarm_log → alarm_log_archive 복사 (재실행 시 이미 옮긴 행은 무시)
+    public int archiveByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO alarm_log_archive " +
+                        "(alarm_id, user_id, alarm_title, alarm_context, is_read, created_at, updated_at, archived_at) " +
+                        "SELECT alarm_id, user_id, alarm_title, alarm_context, is_read, created_at, updated_at, NOW() " +
+                        "FROM alarm_log WHERE alarm_id IN (" + in + ")",
+                ids.toArray()
+        );
+    }
+
+    public int deleteByIds(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        String in = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        return jdbcTemplate.update("DELETE FROM alarm_log WHERE alarm_id IN (" + in + ")", ids.toArray());
+    }
+}
@@ -0,0 +1,12 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationNotice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+public interface NotificationNoticeRepository extends JpaRepository<NotificationNotice, Integer> {
+
+    // 공지가 없으면 0
+    @Query("select coalesce(max(n.id), 0) from NotificationNotice n")
+    int findLatestId();
+}
@@ -0,0 +1,30 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationNoticeWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface NotificationNoticeWatermarkRepository extends JpaRepository<NotificationNoticeWatermark, Integer> {
+
+    @Query("select w.lastNoticeId from NotificationNoticeWatermark w where w.userId = :userId")
+    Optional<Integer> findLastNoticeId(@Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO alarm_notice_watermark (user_id, last_notice_id) VALUES (:userId, 0)",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Integer userId);
+
+    // 같은 유저의 동시 조회가 공지를 두 번 옮기지 않도록 행 잠금
+    @Query(value = "SELECT last_notice_id FROM alarm_notice_watermark WHERE user_id = :userId FOR UPDATE",
+            nativeQuery = true)
+    int lockLastNoticeId(@Param("userId") Integer userId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE alarm_notice_watermark SET last_notice_id = :noticeId WHERE user_id = :userId",
+            nativeQuery = true)
+    int updateLastNoticeId(@Param("userId") Integer userId, @Param("noticeId") int noticeId);
+}
@@ -0,0 +1,32 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    // 처리할 outbox 행을 잠그고 가져옴. 다른 파드가 잡은 행은 건너뜀 (MariaDB 10.6+)
+    @Query(value = """
+            SELECT * FROM alarm_outbox
+            WHERE status = 'PENDING' AND next_attempt_at <= :now
+            ORDER BY outbox_id
+            LIMIT :limit
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<NotificationOutbox> findPendingForUpdate(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    // 처리 완료된 행 정리 (LIMIT 으로 잘라서 여러 번 호출)
+    @Modifying
+    @Query(value = """
+            DELETE FROM alarm_outbox
+            WHERE status = 'DONE' AND processed_at < :before
+            LIMIT :limit
+            """, nativeQuery = true)
+    int deleteDoneBefore(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -4,16 +4,67 @@ import com.cherry.cherrybookerbe.notification.command.domain.entity.Notification
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 public interface NotificationRepository extends JpaRepository<Notification, Integer> {
 
     Page<Notification> findByUserIdOrderByCreatedAtDesc(Integer userId, Pageable pageable);
 
+    // 커서 페이지네이션 첫 페이지 (COUNT 없음, pageable 은 LIMIT 용)
+    @Query("select n from Notification n where n.userId = :userId order by n.createdAt desc, n.id desc")
+    List<Notification> findLatestByUserId(@Param("userId") Integer userId, Pageable pageable);
+
+    // 커서 (createdAt, id) 이후 페이지: idx_alarm_log_user_created 로 바로 seek
+    @Query("select n from Notification n where n.userId = :userId " +
+            "and (n.createdAt < :createdAt or (n.createdAt = :createdAt and n.id < :id)) " +
+            "order by n.createdAt desc, n.id desc")
+    List<Notification> findByUserIdBefore(@Param("userId") Integer userId,
+                                          @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") Integer id,
+                                          Pageable pageable);
+
     long countByUserIdAndReadFalse(Integer userId);
 
-    List<Notification> findByUserIdAndReadFalse(Integer userId);
+    // 모두 읽음: 엔티티 로딩 없이 UPDATE 한 번. 반환값 = 읽음 처리된 행 수
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Notification n set n.read = true, n.updatedAt = CURRENT_TIMESTAMP " +
+            "where n.userId = :userId and n.read = false")
+    int markAllReadByUserId(@Param("userId") Integer userId);
+
+    // 읽은 알림 삭제 청크: 호출마다 별도 트랜잭션으로 커밋해서 행 잠금을 짧게 유지
+    @Transactional(transactionManager = "transactionManager")
+    @Modifying
+    @Query(value = "DELETE FROM alarm_log WHERE user_id = :userId AND is_read = 1 LIMIT :limit", nativeQuery = true)
+    int deleteReadByUserIdLimit(@Param("userId") Integer userId, @Param("limit") int limit);
+
+    // 여러 유저의 미읽음 개수를 GROUP BY 한 번으로 조회 (미읽음이 0인 유저는 결과에 없음)
+    @Query("select n.userId as userId, count(n) as unreadCount from Notification n " +
+            "where n.userId in :userIds and n.read = false group by n.userId")
+    List<UnreadCountRow> countUnreadGroupByUserIdIn(@Param("userIds") Collection<Integer> userIds);
+
+    // userId -> 미읽음 개수 (조회 대상 전원 포함, 없으면 0)
+    default Map<Integer, Long> countUnreadByUserIds(Collection<Integer> userIds) {
+        Map<Integer, Long> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+        userIds.forEach(uid -> result.put(uid, 0L));
+        countUnreadGroupByUserIdIn(userIds)
+                .forEach(row -> result.put(row.getUserId(), row.getUnreadCount()));
+        return result;
+    }
 
-    void deleteByUserIdAndReadTrue(Integer userId);
+    interface UnreadCountRow {
+        Integer getUserId();
+        Long getUnreadCount();
+    }
 }
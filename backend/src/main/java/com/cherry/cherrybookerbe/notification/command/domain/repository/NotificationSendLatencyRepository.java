@@ -0,0 +1,26 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLatency;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationSendLatencyRepository extends JpaRepository<NotificationSendLatency, Long> {
+
+    List<NotificationSendLatency> findBySendLogIdIn(Collection<Integer> sendLogIds);
+
+    // 여러 파드가 같은 버킷을 동시에 누적하므로 upsert
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO alarm_send_latency (send_log_id, bucket_ms, event_count) VALUES (:sendLogId, :bucketMs, :count) " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)",
+            nativeQuery = true)
+    int addCount(@Param("sendLogId") Integer sendLogId,
+                 @Param("bucketMs") long bucketMs,
+                 @Param("count") long count);
+}
@@ -1,11 +1,64 @@
 package com.cherry.cherrybookerbe.notification.command.domain.repository;
 
 import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLog;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationSendStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
 
 public interface NotificationSendLogRepository extends JpaRepository<NotificationSendLog, Integer> {
 
     Page<NotificationSendLog> findAllByOrderBySentAtDesc(Pageable pageable);
+
+    // 파티션 워커들이 동시에 호출하므로 읽고-쓰기 대신 원자적 증가. 진행이 있을 때마다 리스도 늘린다
+    @Transactional
+    @Modifying
+    @Query("update NotificationSendLog l set l.sentCount = l.sentCount + :sent, l.failedCount = l.failedCount + :failed, " +
+            "l.leaseUntil = :leaseUntil where l.id = :id")
+    int addProgress(@Param("id") Integer id,
+                    @Param("sent") int sent,
+                    @Param("failed") int failed,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 리스가 끝난(또는 아직 잡힌 적 없이 오래된) 진행 중 발송
+    @Query("select l.id from NotificationSendLog l where l.status = :status " +
+            "and (l.leaseUntil < :now or (l.leaseUntil is null and l.sentAt < :unclaimedBefore))")
+    List<Integer> findStaleIds(@Param("status") NotificationSendStatus status,
+                               @Param("now") LocalDateTime now,
+                               @Param("unclaimedBefore") LocalDateTime unclaimedBefore);
+
+    // 이 파드가 잡을 맡는다. 다른 파드가 먼저 잡았거나 이미 끝났으면 0
+    @Transactional
+    @Modifying
+    @Query("update NotificationSendLog l set l.leaseUntil = :leaseUntil " +
+            "where l.id = :id and l.status = :status and (l.leaseUntil is null or l.leaseUntil < :now)")
+    int claim(@Param("id") Integer id,
+              @Param("status") NotificationSendStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationSendLog l set l.pushedCount = l.pushedCount + :pushed, " +
+            "l.droppedCount = l.droppedCount + :dropped where l.id = :id")
+    int addDelivery(@Param("id") Integer id, @Param("pushed") int pushed, @Param("dropped") int dropped);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationSendLog l set l.totalCount = :total where l.id = :id")
+    int updateTotalCount(@Param("id") Integer id, @Param("total") int total);
+
+    @Transactional
+    @Modifying
+    @Query("update NotificationSendLog l set l.status = :status, l.finishedAt = :finishedAt where l.id = :id")
+    int finish(@Param("id") Integer id,
+               @Param("status") NotificationSendStatus status,
+               @Param("finishedAt") LocalDateTime finishedAt);
 }
@@ -0,0 +1,52 @@
+package com.cherry.cherrybookerbe.notification.command.domain.repository;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationUnreadCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationUnreadCounterRepository extends JpaRepository<NotificationUnreadCounter, Integer> {
+
+    @Query("select c.unreadCount from NotificationUnreadCounter c where c.userId = :userId")
+    Optional<Long> findUnreadCountByUserId(@Param("userId") Integer userId);
+
+    List<NotificationUnreadCounter> findByUserIdIn(Collection<Integer> userIds);
+
+    // 카운터 행이 있을 때만 증감 (0 미만으로 내려가지 않음). 반환값이 0이면 아직 시딩 전
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE alarm_unread_counter SET unread_count = GREATEST(unread_count + :delta, 0) " +
+            "WHERE user_id = :userId", nativeQuery = true)
+    int addUnreadCount(@Param("userId") Integer userId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE alarm_unread_counter SET unread_count = unread_count + 1 " +
+            "WHERE user_id IN (:userIds)", nativeQuery = true)
+    int incrementAll(@Param("userIds") Collection<Integer> userIds);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO alarm_unread_counter (user_id, unread_count) VALUES (:userId, :unreadCount) " +
+            "ON DUPLICATE KEY UPDATE unread_count = :unreadCount", nativeQuery = true)
+    int upsertUnreadCount(@Param("userId") Integer userId, @Param("unreadCount") long unreadCount);
+
+    // 카운터 행이 없는 유저만 alarm_log 기준으로 시딩. 행이 있는 유저는 COUNT 자체를 하지 않는다
+    // (INSERT IGNORE 는 동시에 시딩한 요청과 겹쳤을 때만 쓰인다)
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT IGNORE INTO alarm_unread_counter (user_id, unread_count) " +
+            "SELECT u.user_id, (SELECT COUNT(*) FROM alarm_log a WHERE a.user_id = u.user_id AND a.is_read = 0) " +
+            "FROM users u WHERE u.user_id IN (:userIds) " +
+            "AND NOT EXISTS (SELECT 1 FROM alarm_unread_counter c WHERE c.user_id = u.user_id)", nativeQuery = true)
+    int seedMissing(@Param("userIds") Collection<Integer> userIds);
+
+    // 드리프트 보정: alarm_log 기준으로 다시 계산해서 덮어씀
+    @Modifying(flushAutomatically = true)
+    @Query(value = "INSERT INTO alarm_unread_counter (user_id, unread_count) " +
+            "SELECT u.user_id, (SELECT COUNT(*) FROM alarm_log a WHERE a.user_id = u.user_id AND a.is_read = 0) " +
+            "FROM users u WHERE u.user_id IN (:userIds) " +
+            "ON DUPLICATE KEY UPDATE unread_count = VALUES(unread_count)", nativeQuery = true)
+    int reconcile(@Param("userIds") Collection<Integer> userIds);
+}
@@ -0,0 +1,8 @@
+package com.cherry.cherrybookerbe.notification.command.event;
+
+import java.util.List;
+
+// 전체 발송 청크 하나가 커밋됨 → 청크의 알림을 SSE 로 한 번에 발행 (유저별 Redis 왕복 대신 청크당 파이프라인 + PUBLISH 한 번)
+public record NotificationChunkCreatedEvent(
+        List<NotificationCreatedEvent> events
+) {}
@@ -22,6 +22,8 @@ public final class NotificationCreatedEvent {
     private final String content;
     private final LocalDateTime createdAt;
     private final long unreadCount;
+    // 발송 로그 id (배달 집계용). 발송 로그 없이 만든 알림이면 null
+    private final Integer sendLogId;
 
     public static NotificationCreatedEvent of(Integer userId,
                                               Integer notificationId,
@@ -29,6 +31,16 @@ public final class NotificationCreatedEvent {
                                               String content,
                                               LocalDateTime createdAt,
                                               long unreadCount) {
+        return of(null, userId, notificationId, title, content, createdAt, unreadCount);
+    }
+
+    public static NotificationCreatedEvent of(Integer sendLogId,
+                                              Integer userId,
+                                              Integer notificationId,
+                                              String title,
+                                              String content,
+                                              LocalDateTime createdAt,
+                                              long unreadCount) {
         return NotificationCreatedEvent.builder()
                 .userId(userId)
                 .notificationId(notificationId)
@@ -36,6 +48,7 @@ public final class NotificationCreatedEvent {
                 .content(content)
                 .createdAt(createdAt)
                 .unreadCount(unreadCount)
+                .sendLogId(sendLogId)
                 .build();
     }
 }
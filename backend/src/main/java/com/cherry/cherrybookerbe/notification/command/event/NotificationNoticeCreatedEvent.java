@@ -0,0 +1,11 @@
+package com.cherry.cherrybookerbe.notification.command.event;
+
+import java.time.LocalDateTime;
+
+// 전체 공지 등록(fan-out-on-read) → 연결된 모든 클라이언트에 NOTICE 로 전달, 클라이언트는 목록/미읽음 수를 다시 조회
+public record NotificationNoticeCreatedEvent(
+        Integer noticeId,
+        String title,
+        String content,
+        LocalDateTime createdAt
+) {}
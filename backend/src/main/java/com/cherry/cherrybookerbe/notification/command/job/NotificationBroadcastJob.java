@@ -0,0 +1,187 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationBroadcastPartition;
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLog;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationSendStatus;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationBroadcastPartitionRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationBroadcaster;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+// 전체 발송을 요청 스레드에서 떼어 내 비동기로 실행: userId 구간(파티션)별로 워커 풀에서 병렬 처리하고 진행률을 발송 로그에 누적
+// 파티션별 커서를 DB 에 남기고 발송 로그에 리스를 걸어, 파드가 중간에 죽으면 다른 파드(또는 재시작한 파드)가 이어서 발송한다
+@Slf4j
+@Component
+public class NotificationBroadcastJob {
+
+    private final NotificationBroadcaster broadcaster;
+    private final NotificationSendLogRepository sendLogRepository;
+    private final NotificationBroadcastPartitionRepository partitionRepository;
+    private final UserRepository userRepository;
+    private final int partitions;
+    private final Duration lease;
+    // 파티션 워커: 각자 DB 커넥션을 쓰므로 커넥션 풀보다 작게 고정
+    private final ExecutorService workers;
+    // 잡 하나당 파티션을 기다리는 조정 스레드 (대부분 대기라 가상 스레드)
+    private final ExecutorService coordinators = Executors.newVirtualThreadPerTaskExecutor();
+
+    public NotificationBroadcastJob(NotificationBroadcaster broadcaster,
+                                    NotificationSendLogRepository sendLogRepository,
+                                    NotificationBroadcastPartitionRepository partitionRepository,
+                                    UserRepository userRepository,
+                                    @Value("${notification.broadcast.partitions:4}") int partitions,
+                                    @Value("${notification.broadcast.workers:4}") int workers,
+                                    @Value("${notification.broadcast.lease-seconds:300}") long leaseSeconds) {
+        this.broadcaster = broadcaster;
+        this.sendLogRepository = sendLogRepository;
+        this.partitionRepository = partitionRepository;
+        this.userRepository = userRepository;
+        this.partitions = Math.max(partitions, 1);
+        this.lease = Duration.ofSeconds(Math.max(leaseSeconds, 30));
+        this.workers = Executors.newFixedThreadPool(Math.max(workers, 1));
+    }
+
+    // 발송 로그(PENDING)가 커밋된 뒤 호출. 바로 반환한다
+    public void submit(Integer sendLogId, String title, String content) {
+        LocalDateTime now = LocalDateTime.now();
+        if (sendLogRepository.claim(sendLogId, NotificationSendStatus.PENDING, now, now.plus(lease)) == 0) {
+            log.warn("[NOTIFICATION] broadcast already claimed. sendLogId={}", sendLogId);
+            return;
+        }
+        execute(sendLogId, () -> run(sendLogId, title, content));
+    }
+
+    /**
+     * 리스가 끝났는데 아직 PENDING 인 발송(실행하던 파드가 죽음)을 이어받는다.
+     * 파티션이 있으면 커서 다음부터 이어서 보내고, 파티션을 만들기 전에 죽었거나 이어 보낼 정보가 없으면 FAILED 로 닫는다.
+     */
+    @Scheduled(initialDelayString = "${notification.broadcast.recovery-interval-ms:60000}",
+            fixedDelayString = "${notification.broadcast.recovery-interval-ms:60000}")
+    public void recoverStale() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Integer> staleIds = sendLogRepository.findStaleIds(
+                NotificationSendStatus.PENDING, now, now.minus(lease));
+
+        for (Integer sendLogId : staleIds) {
+            if (sendLogRepository.claim(sendLogId, NotificationSendStatus.PENDING, now, now.plus(lease)) == 0) {
+                continue; // 다른 파드가 먼저 잡음
+            }
+            NotificationSendLog sendLog = sendLogRepository.findById(sendLogId).orElse(null);
+            if (sendLog == null
+                    || sendLog.getTitleSnapshot() == null
+                    || !partitionRepository.existsBySendLogId(sendLogId)) {
+                log.warn("[NOTIFICATION] stale broadcast cannot be resumed. mark FAILED. sendLogId={}", sendLogId);
+                finish(sendLogId, NotificationSendStatus.FAILED);
+                continue;
+            }
+
+            log.info("[NOTIFICATION] resume stale broadcast. sendLogId={}", sendLogId);
+            execute(sendLogId, () -> runPartitions(sendLogId, sendLog.getTitleSnapshot(), sendLog.getBodySnapshot(),
+                    partitionRepository.findBySendLogIdAndDoneFalseOrderByAfterUserId(sendLogId)));
+        }
+    }
+
+    private void execute(Integer sendLogId, Runnable job) {
+        coordinators.execute(() -> {
+            try {
+                job.run();
+            } catch (Exception e) {
+                log.error("[NOTIFICATION] broadcast job failed. sendLogId={}", sendLogId, e);
+                sendLogRepository.finish(sendLogId, NotificationSendStatus.FAILED, LocalDateTime.now());
+            }
+        });
+    }
+
+    /**
+     * 전체 발송 한 건을 끝까지 실행한다 (호출 스레드는 모든 파티션이 끝날 때까지 대기).
+     *
+     * @return 최종 상태
+     */
+    NotificationSendStatus run(Integer sendLogId, String title, String content) {
+        if (broadcaster.isFanOutOnRead()) {
+            // 공지 1행만 저장. 유저별 행은 조회 시점에 생기므로 진행률은 0/0
+            broadcaster.publishNotice(title, content);
+            return finish(sendLogId, NotificationSendStatus.SUCCESS);
+        }
+
+        int maxUserId = userRepository.findMaxUserId();
+        int total = (int) userRepository.count();
+        sendLogRepository.updateTotalCount(sendLogId, total);
+
+        // 발송 전에 구간을 모두 저장해 둔다 (파티션이 없는 PENDING = 아무것도 보내지 않은 상태)
+        List<NotificationBroadcastPartition> ranges = new ArrayList<>();
+        int span = Math.max((maxUserId + partitions - 1) / partitions, 1);
+        for (int from = 0; from < maxUserId; from += span) {
+            ranges.add(NotificationBroadcastPartition.builder()
+                    .sendLogId(sendLogId)
+                    .afterUserId(from)
+                    .toUserId(Math.min(from + span, maxUserId))
+                    .build());
+        }
+        return runPartitions(sendLogId, title, content, partitionRepository.saveAll(ranges));
+    }
+
+    // 각 파티션을 커서 다음부터 끝까지 보낸다. 이어받은 잡도 같은 경로
+    NotificationSendStatus runPartitions(Integer sendLogId,
+                                         String title,
+                                         String content,
+                                         List<NotificationBroadcastPartition> pending) {
+        List<CompletableFuture<Integer>> futures = new ArrayList<>();
+        for (NotificationBroadcastPartition partition : pending) {
+            Integer partitionId = partition.getId();
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                int sent = broadcaster.broadcastRange(sendLogId, title, content,
+                        partition.getCursorUserId(), partition.getToUserId(),
+                        (lastUserId, chunkSent, chunkFailed) -> {
+                            partitionRepository.advance(partitionId, lastUserId);
+                            sendLogRepository.addProgress(sendLogId, chunkSent, chunkFailed,
+                                    LocalDateTime.now().plus(lease));
+                        });
+                partitionRepository.markDone(partitionId);
+                return sent;
+            }, workers));
+        }
+
+        boolean partitionFailed = false;
+        for (CompletableFuture<Integer> future : futures) {
+            try {
+                future.join();
+            } catch (Exception e) {
+                // 청크 조회 자체가 실패한 경우 등: 남은 유저는 remaining 으로 남는다
+                log.warn("[NOTIFICATION] broadcast partition failed. sendLogId={}", sendLogId, e);
+                partitionFailed = true;
+            }
+        }
+
+        NotificationSendLog progress = sendLogRepository.findById(sendLogId).orElse(null);
+        boolean ok = !partitionFailed && (progress == null || progress.getFailedCount() == 0);
+
+        log.info("[NOTIFICATION] broadcast job done. sendLogId={}, partitions={}, ok={}",
+                sendLogId, futures.size(), ok);
+        return finish(sendLogId, ok ? NotificationSendStatus.SUCCESS : NotificationSendStatus.FAILED);
+    }
+
+    private NotificationSendStatus finish(Integer sendLogId, NotificationSendStatus status) {
+        sendLogRepository.finish(sendLogId, status, LocalDateTime.now());
+        return status;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        coordinators.shutdown();
+        workers.shutdown();
+    }
+}
@@ -0,0 +1,108 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationOutbox;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationOutboxRepository;
+import com.cherry.cherrybookerbe.notification.command.event.ThreadReplyCreatedEvent;
+import com.cherry.cherrybookerbe.notification.command.listener.ThreadReplyNotificationListener;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationCommandService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// alarm_outbox 폴링 → 알림 생성(alarm_log + SSE). 배치마다 행을 잠그고(SKIP LOCKED) 처리하므로 파드가 여러 개여도 중복 처리하지 않는다.
+// 알림 생성은 행마다 별도 트랜잭션(REQUIRES_NEW)이라, 완료 표시 전에 죽으면 다시 처리될 수 있다 (at-least-once)
+@Slf4j
+@Component
+public class NotificationOutboxRelay {
+
+    private static final long MAX_RETRY_DELAY_SECONDS = 300;
+
+    private final NotificationOutboxRepository outboxRepository;
+    private final NotificationCommandService notificationCommandService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final int retentionDays;
+
+    public NotificationOutboxRelay(NotificationOutboxRepository outboxRepository,
+                                   NotificationCommandService notificationCommandService,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${notification.outbox.batch-size:100}") int batchSize,
+                                   @Value("${notification.outbox.max-attempts:10}") int maxAttempts,
+                                   @Value("${notification.outbox.retention-days:7}") int retentionDays) {
+        this.outboxRepository = outboxRepository;
+        this.notificationCommandService = notificationCommandService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.retentionDays = retentionDays;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.outbox.poll-interval-ms:1000}")
+    public void relay() {
+        // 밀려 있으면 한 번에 비울 때까지 배치 반복
+        while (true) {
+            Integer processed = transactionTemplate.execute(status -> relayBatch());
+            if (processed == null || processed < batchSize) {
+                break;
+            }
+        }
+    }
+
+    private int relayBatch() {
+        List<NotificationOutbox> batch = outboxRepository.findPendingForUpdate(LocalDateTime.now(), batchSize);
+
+        for (NotificationOutbox outbox : batch) {
+            try {
+                dispatch(outbox);
+                outbox.markDone();
+            } catch (Exception e) {
+                long delay = Math.min(MAX_RETRY_DELAY_SECONDS, 1L << Math.min(outbox.getAttempts() + 1, 16));
+                outbox.markRetry(e.getMessage(), maxAttempts, delay);
+                log.warn("[NOTIFICATION] outbox dispatch failed. outboxId={}, attempts={}",
+                        outbox.getId(), outbox.getAttempts(), e);
+            }
+        }
+        return batch.size();
+    }
+
+    private void dispatch(NotificationOutbox outbox) throws Exception {
+        switch (outbox.getEventType()) {
+            case ThreadReplyNotificationListener.EVENT_TYPE -> {
+                ThreadReplyCreatedEvent event =
+                        objectMapper.readValue(outbox.getPayload(), ThreadReplyCreatedEvent.class);
+                notificationCommandService.notifyThreadReply(
+                        event.threadOwnerUserId(),
+                        event.rootThreadId(),
+                        event.replyWriterNickname()
+                );
+            }
+            default -> throw new IllegalStateException("알 수 없는 outbox 이벤트 타입: " + outbox.getEventType());
+        }
+    }
+
+    // 처리 완료된 outbox 행 정리 (새벽 시간대)
+    @Scheduled(cron = "${notification.outbox.purge-cron:0 0 5 * * *}")
+    public void purge() {
+        LocalDateTime before = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        while (true) {
+            Integer deleted = transactionTemplate.execute(status -> outboxRepository.deleteDoneBefore(before, 1000));
+            if (deleted == null || deleted == 0) {
+                break;
+            }
+            total += deleted;
+        }
+        log.info("[NOTIFICATION] outbox purged. deleted={}", total);
+    }
+}
@@ -0,0 +1,88 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// alarm_log 보관 기간 정리: 오래된 읽은 알림을 작은 배치로 아카이브(또는 삭제). 미읽음 알림은 건드리지 않는다
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int readRetentionDays;
+    private final int batchSize;
+    private final boolean archive;
+    private final Counter removedCounter;
+    private final DistributionSummary rowsPerRun;
+
+    public NotificationRetentionJob(NotificationJdbcRepository notificationJdbcRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    MeterRegistry meterRegistry,
+                                    @Value("${notification.retention.read-retention-days:90}") int readRetentionDays,
+                                    @Value("${notification.retention.batch-size:500}") int batchSize,
+                                    @Value("${notification.retention.archive:true}") boolean archive) {
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readRetentionDays = readRetentionDays;
+        this.batchSize = Math.max(batchSize, 1);
+        this.archive = archive;
+
+        String mode = archive ? "archive" : "delete";
+        this.removedCounter = Counter.builder("notification.retention.rows")
+                .tag("mode", mode)
+                .description("보관 기간이 지나 alarm_log 에서 옮기거나 지운 알림 수")
+                .register(meterRegistry);
+        this.rowsPerRun = DistributionSummary.builder("notification.retention.rows.per.run")
+                .tag("mode", mode)
+                .description("보관 기간 정리 1회 실행당 처리한 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 이번 실행에서 alarm_log 에서 제거한 알림 수
+     */
+    @Scheduled(cron = "${notification.retention.cron:0 0 4 * * *}")
+    public int run() {
+        LocalDateTime before = LocalDateTime.now().minusDays(readRetentionDays);
+        int total = 0;
+
+        while (true) {
+            Integer removed = transactionTemplate.execute(status -> {
+                List<Integer> ids = notificationJdbcRepository.findReadIdsCreatedBefore(before, batchSize);
+                if (ids.isEmpty()) {
+                    return 0;
+                }
+                if (archive) {
+                    notificationJdbcRepository.archiveByIds(ids);
+                }
+                return notificationJdbcRepository.deleteByIds(ids);
+            });
+
+            if (removed == null || removed == 0) {
+                break;
+            }
+            total += removed;
+            removedCounter.increment(removed);
+
+            if (removed < batchSize) {
+                break;
+            }
+        }
+
+        rowsPerRun.record(total);
+        log.info("[NOTIFICATION] retention done. removed={}, archive={}, before={}", total, archive, before);
+        return total;
+    }
+}
@@ -0,0 +1,58 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationUnreadCounterRepository;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// 미읽음 카운터 드리프트 보정 배치: 유저 청크마다 alarm_log 기준으로 다시 계산해서 덮어쓴다
+@Slf4j
+@Component
+public class NotificationUnreadCounterReconciler {
+
+    private final UserRepository userRepository;
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public NotificationUnreadCounterReconciler(UserRepository userRepository,
+                                               NotificationUnreadCounterRepository counterRepository,
+                                               PlatformTransactionManager transactionManager,
+                                               @Value("${notification.unread-counter.reconcile-chunk-size:500}") int chunkSize) {
+        this.userRepository = userRepository;
+        this.counterRepository = counterRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    @Scheduled(cron = "${notification.unread-counter.reconcile-cron:0 30 4 * * *}")
+    public void reconcile() {
+        int users = 0;
+        Integer lastUserId = 0;
+
+        while (true) {
+            List<Integer> userIds = userRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            transactionTemplate.executeWithoutResult(status -> counterRepository.reconcile(userIds));
+
+            users += userIds.size();
+            lastUserId = userIds.get(userIds.size() - 1);
+
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+
+        log.info("[NOTIFICATION] unread counter reconciled. users={}", users);
+    }
+}
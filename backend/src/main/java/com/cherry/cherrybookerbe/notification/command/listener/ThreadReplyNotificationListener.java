@@ -1,24 +1,30 @@
 package com.cherry.cherrybookerbe.notification.command.listener;
 
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationOutbox;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationOutboxRepository;
 import com.cherry.cherrybookerbe.notification.command.event.ThreadReplyCreatedEvent;
-import com.cherry.cherrybookerbe.notification.command.service.NotificationCommandService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+// 답글 작성 트랜잭션 안에서 outbox 행만 남긴다. 실제 알림 생성은 NotificationOutboxRelay 가 처리
 @Component
 @RequiredArgsConstructor
 public class ThreadReplyNotificationListener {
 
-    private final NotificationCommandService notificationCommandService;
+    public static final String EVENT_TYPE = "THREAD_REPLY_CREATED";
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
-    public void onReplyCreated(ThreadReplyCreatedEvent event) {
-        notificationCommandService.notifyThreadReply(
-                event.threadOwnerUserId(),
-                event.rootThreadId(),
-                event.replyWriterNickname()
-        );
+    private final NotificationOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReplyCreated(ThreadReplyCreatedEvent event) throws JsonProcessingException {
+        outboxRepository.save(NotificationOutbox.builder()
+                .eventType(EVENT_TYPE)
+                .payload(objectMapper.writeValueAsString(event))
+                .build());
     }
 }
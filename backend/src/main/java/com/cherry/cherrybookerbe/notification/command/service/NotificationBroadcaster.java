@@ -0,0 +1,157 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationChunkCreatedEvent;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationCreatedEvent;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// 전체 발송(SYSTEM) 파이프라인: userId 청크 페이징 → 청크별 multi-row INSERT + 커밋 → 커밋된 청크만 SSE 이벤트
+// 잡(NotificationBroadcastJob)이 userId 구간별로 broadcastRange 를 호출한다
+// notification.broadcast.mode=fan-out-on-read 이면 공지 1행만 저장하고 유저별 행은 조회 시점에 생성 (NotificationNoticeService)
+@Slf4j
+@Component
+public class NotificationBroadcaster {
+
+    static final String MODE_FAN_OUT_ON_READ = "fan-out-on-read";
+
+    private final UserRepository userRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationUnreadCounterService unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final NotificationNoticeService noticeService;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final boolean fanOutOnRead;
+
+    public NotificationBroadcaster(UserRepository userRepository,
+                                   NotificationJdbcRepository notificationJdbcRepository,
+                                   NotificationUnreadCounterService unreadCounter,
+                                   ApplicationEventPublisher eventPublisher,
+                                   NotificationNoticeService noticeService,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${notification.broadcast.chunk-size:1000}") int chunkSize,
+                                   @Value("${notification.broadcast.mode:fan-out-on-write}") String mode) {
+        this.userRepository = userRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.unreadCounter = unreadCounter;
+        this.eventPublisher = eventPublisher;
+        this.noticeService = noticeService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = Math.max(chunkSize, 1);
+        this.fanOutOnRead = MODE_FAN_OUT_ON_READ.equalsIgnoreCase(mode.trim());
+    }
+
+    /**
+     * 청크 하나가 끝날 때마다 호출 (lastUserId = 청크의 마지막 유저, sent = 커밋된 수, failed = 롤백된 수).
+     * 성공한 청크는 그 청크의 INSERT 트랜잭션 안에서 호출되므로 진행률/커서 갱신이 저장과 함께 커밋된다.
+     */
+    @FunctionalInterface
+    public interface ProgressListener {
+        void onChunk(int lastUserId, int sent, int failed);
+    }
+
+    public boolean isFanOutOnRead() {
+        return fanOutOnRead;
+    }
+
+    /**
+     * fan-out-on-read 모드의 전체 발송: 공지 1행만 저장한다. 유저별 행은 알림함 조회 시점에 생긴다.
+     */
+    public void publishNotice(String title, String content) {
+        noticeService.publish(title, content);
+        log.info("[NOTIFICATION] broadcast stored as notice (fan-out-on-read).");
+    }
+
+    /**
+     * userId 가 (afterUserId, toUserId] 인 유저에게만 저장/발행한다. 파티션별 워커가 병렬로 호출.
+     * 청크 하나가 실패해도 그 청크만 실패로 세고 다음 청크로 넘어간다.
+     *
+     * @return 저장된 알림 수
+     */
+    public int broadcastRange(Integer sendLogId,
+                              String title,
+                              String content,
+                              int afterUserId,
+                              int toUserId,
+                              ProgressListener listener) {
+        int total = 0;
+        Integer lastUserId = afterUserId;
+
+        while (true) {
+            List<Integer> userIds = userRepository.findUserIdsInRange(
+                    lastUserId, toUserId, PageRequest.of(0, chunkSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            LocalDateTime createdAt = LocalDateTime.now();
+            Integer chunkLastUserId = userIds.get(userIds.size() - 1);
+            List<Integer> notificationIds;
+            try {
+                notificationIds = transactionTemplate.execute(status -> {
+                    List<Integer> ids = notificationJdbcRepository.insertAll(userIds, title, content, createdAt);
+                    unreadCounter.incrementAll(userIds);
+                    listener.onChunk(chunkLastUserId, userIds.size(), 0);
+                    return ids;
+                });
+            } catch (RuntimeException e) {
+                log.warn("[NOTIFICATION] broadcast chunk failed. users {}..{}",
+                        userIds.get(0), chunkLastUserId, e);
+                notificationIds = null;
+            }
+
+            if (notificationIds != null) {
+                total += userIds.size();
+                publishCreated(sendLogId, userIds, notificationIds, title, content, createdAt);
+            } else {
+                listener.onChunk(chunkLastUserId, 0, userIds.size());
+            }
+
+            lastUserId = chunkLastUserId;
+
+            if (userIds.size() < chunkSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // 청크 커밋 이후 호출됨. 미읽음 개수는 청크당 카운터 조회 한 번, SSE 발행도 청크당 이벤트 한 번
+    private void publishCreated(Integer sendLogId,
+                                List<Integer> userIds,
+                                List<Integer> notificationIds,
+                                String title,
+                                String content,
+                                LocalDateTime createdAt) {
+        Map<Integer, Long> unreadByUser = unreadCounter.getAll(userIds);
+
+        List<NotificationCreatedEvent> events = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Integer uid = userIds.get(i);
+            long unread = unreadByUser.getOrDefault(uid, 0L);
+
+            events.add(NotificationCreatedEvent.of(
+                    sendLogId,
+                    uid,
+                    notificationIds.get(i),
+                    title,
+                    content,
+                    createdAt,
+                    unread
+            ));
+        }
+        eventPublisher.publishEvent(new NotificationChunkCreatedEvent(events));
+    }
+}
@@ -16,7 +16,10 @@ import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationD
 import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationTemplateResponse;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationCreatedEvent;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationReadEvent;
-import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import com.cherry.cherrybookerbe.notification.command.job.NotificationBroadcastJob;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateCache;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateRenderer;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateSnapshot;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
@@ -28,7 +31,6 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 
@@ -37,11 +39,17 @@ import java.util.Objects;
 @Transactional(transactionManager = "transactionManager")
 public class NotificationCommandService {
 
+    private static final int DELETE_CHUNK_SIZE = 1000;
+
     private final NotificationRepository notificationRepository;
     private final NotificationTemplateRepository templateRepository;
     private final NotificationSendLogRepository sendLogRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final UserRepository userRepository;
+    private final NotificationBroadcastJob broadcastJob;
+    private final NotificationUnreadCounterService unreadCounter;
+    private final NotificationTemplateRenderer templateRenderer;
+    private final NotificationTemplateCache templateCache;
+    private final NotificationNoticeInbox noticeInbox;
 
     // ============ 템플릿 CUD ============
 
@@ -53,6 +61,7 @@ public class NotificationCommandService {
                 .build();
 
         NotificationTemplate saved = templateRepository.save(template);
+        invalidateTemplateCacheAfterCommit();
         return NotificationTemplateResponse.from(saved);
     }
 
@@ -64,6 +73,7 @@ public class NotificationCommandService {
 
 
         template.update(request.getTitle(), request.getBody(), request.getTemplateType());
+        invalidateTemplateCacheAfterCommit();
         return NotificationTemplateResponse.from(template);
     }
 
@@ -79,6 +89,7 @@ public class NotificationCommandService {
         }
 
         template.markDeleted();
+        invalidateTemplateCacheAfterCommit();
     }
 
     // ============ 템플릿 기반 발송 ============
@@ -86,20 +97,29 @@ public class NotificationCommandService {
     public NotificationDispatchResponse sendByTemplate(Integer templateId,
                                                        NotificationSendRequest request) {
 
-        NotificationTemplate template = templateRepository.findById(templateId)
+        NotificationTemplateSnapshot template = templateCache.findById(templateId)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.NOT_FOUND, "템플릿을 찾을 수 없습니다."));
 
-        if (template.isDeleted()) {
+        if (template.deleted()) {
             throw new ResponseStatusException(
                     HttpStatus.BAD_REQUEST, "삭제된 템플릿입니다.");
         }
 
-        String mergedTitle = mergeVariables(template.getTitle(), request.getVariables());
-        String mergedBody = mergeVariables(template.getBody(), request.getVariables());
+        // 관리자 발송: 입력하지 않은 변수는 {{key}} 그대로 보낸다
+        return sendRendered(templateId, request.getTargetUserId(),
+                templateRenderer.render(template, request.getVariables()));
+    }
+
+    // 치환이 끝난 제목/본문으로 단건 알림 저장 + 발송 로그 + 커밋 후 SSE
+    private NotificationDispatchResponse sendRendered(Integer templateId,
+                                                      Integer targetUserId,
+                                                      NotificationTemplateRenderer.Rendered rendered) {
+        String mergedTitle = rendered.title();
+        String mergedBody = rendered.body();
 
         Notification notification = Notification.builder()
-                .userId(request.getTargetUserId())
+                .userId(targetUserId)
                 .title(mergedTitle)
                 .content(mergedBody)
                 .build();
@@ -115,17 +135,20 @@ public class NotificationCommandService {
             );
         }
 
-        long unreadAfterInsert = notificationRepository.countByUserIdAndReadFalse(request.getTargetUserId());
+        long unreadAfterInsert = unreadCounter.increment(targetUserId);
 
-        // 발송 로그 기록
+        // 발송 로그 기록 (템플릿은 FK 만 필요하므로 프록시 참조)
         NotificationSendLog logEntity = NotificationSendLog.builder()
-                .template(template)
+                .template(templateRepository.getReferenceById(templateId))
                 .status(NotificationSendStatus.SUCCESS)
                 .bodySnapshot(mergedBody)
                 .sentAt(LocalDateTime.now())
+                .totalCount(1)
+                .sentCount(1)
                 .build();
         sendLogRepository.save(logEntity);
 
+        Integer sendLogId = logEntity.getId();
         Integer nid = saved.getId();
         LocalDateTime createdAt = saved.getCreatedAt();
 
@@ -134,7 +157,8 @@ public class NotificationCommandService {
             @Override
             public void afterCommit() {
                 eventPublisher.publishEvent(NotificationCreatedEvent.of(
-                        request.getTargetUserId(),
+                        sendLogId,
+                        targetUserId,
                         nid,
                         mergedTitle,
                         mergedBody,
@@ -149,63 +173,42 @@ public class NotificationCommandService {
                 .build();
     }
 
-    public void sendToAllByTemplate(Integer templateId, NotificationBroadcastRequest request) {
-        NotificationTemplate template = templateRepository.findById(templateId)
+    /**
+     * 전체 발송을 잡으로 등록하고 바로 반환한다. 진행률은 발송 로그(sendLogId)로 조회.
+     * 발송 로그가 먼저 커밋되어야 워커가 진행률을 누적할 수 있으므로 바깥 트랜잭션 없이 실행.
+     *
+     * @return 발송 로그 id
+     */
+    @Transactional(transactionManager = "transactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public Integer sendToAllByTemplate(Integer templateId, NotificationBroadcastRequest request) {
+        NotificationTemplateSnapshot template = templateCache.findById(templateId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "템플릿을 찾을 수 없습니다."));
 
-        if (template.isDeleted()) {
+        if (template.deleted()) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "삭제된 템플릿입니다.");
         }
-        if (template.getType() != NotificationTemplateType.SYSTEM) {
+        if (template.type() != NotificationTemplateType.SYSTEM) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "SYSTEM 템플릿만 전체 발송할 수 있습니다.");
         }
 
         Map<String, String> vars = (request == null) ? null : request.getVariables();
 
-        String mergedTitle = mergeVariables(template.getTitle(), vars);
-        String mergedBody  = mergeVariables(template.getBody(), vars);
-
-        List<Integer> userIds = userRepository.findAllUserIds();
-
-        List<Notification> notifications = userIds.stream()
-                .map(uid -> Notification.builder()
-                        .userId(uid)
-                        .title(mergedTitle)
-                        .content(mergedBody)
-                        .build())
-                .toList();
+        // 전원에게 같은 내용이므로 한 번만 치환해서 공유
+        NotificationTemplateRenderer.Rendered rendered = templateRenderer.render(template, vars);
+        String mergedTitle = rendered.title();
+        String mergedBody  = rendered.body();
 
-        // ID/createdAt 확보하려면 반환값을 받는 게 좋습니다.
-        List<Notification> savedList = notificationRepository.saveAll(notifications);
-
-        NotificationSendLog logEntity = NotificationSendLog.builder()
-                .template(template)
-                .status(NotificationSendStatus.SUCCESS)
+        NotificationSendLog logEntity = sendLogRepository.save(NotificationSendLog.builder()
+                .template(templateRepository.getReferenceById(templateId))
+                .status(NotificationSendStatus.PENDING)
                 .bodySnapshot(mergedBody)
+                .titleSnapshot(mergedTitle)
                 .sentAt(LocalDateTime.now())
-                .build();
-        sendLogRepository.save(logEntity);
+                .build());
 
-        // 커밋 후 SSE 이벤트
-        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
-            @Override
-            public void afterCommit() {
-                for (Notification saved : savedList) {
-                    Integer uid = saved.getUserId();
-
-                    long unread = notificationRepository.countByUserIdAndReadFalse(uid);
-
-                    eventPublisher.publishEvent(NotificationCreatedEvent.of(
-                            uid,
-                            saved.getId(),
-                            saved.getTitle(),
-                            saved.getContent(),
-                            saved.getCreatedAt(),
-                            unread
-                    ));
-                }
-            }
-        });
+        // 파티션별 저장/커밋과 SSE 발행은 워커 풀에서 진행
+        broadcastJob.submit(logEntity.getId(), mergedTitle, mergedBody);
+        return logEntity.getId();
     }
 
 
@@ -221,36 +224,47 @@ public class NotificationCommandService {
                     HttpStatus.FORBIDDEN, "다른 사용자의 알림은 변경할 수 없습니다.");
         }
 
+        long unread;
         if (!notification.isRead()) {
             notification.markRead();
+            unread = unreadCounter.decrement(userId);
+        } else {
+            unread = unreadCounter.get(userId);
         }
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                long unread = notificationRepository.countByUserIdAndReadFalse(userId);
                 eventPublisher.publishEvent(NotificationReadEvent.of(userId, unread));
             }
         });
     }
 
-    public void markAllRead(Integer userId) {
-        List<Notification> unreadList =
-                notificationRepository.findByUserIdAndReadFalse(userId);
+    /**
+     * 내 미읽음 알림을 모두 읽음 처리한다.
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    public int markAllRead(Integer userId) {
+        // 아직 옮기지 않은 공지도 함께 읽음 처리되도록 먼저 생성
+        noticeInbox.sync(userId);
 
-        if (unreadList.isEmpty()) {
-            return;
+        int updated = notificationRepository.markAllReadByUserId(userId);
+
+        if (updated == 0) {
+            return 0;
         }
 
-        unreadList.forEach(Notification::markRead);
+        // 전부 읽었으므로 미읽음은 0 (다시 COUNT 하지 않음)
+        unreadCounter.reset(userId);
 
         TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
             @Override
             public void afterCommit() {
-                long unread = notificationRepository.countByUserIdAndReadFalse(userId);
-                eventPublisher.publishEvent(NotificationReadEvent.of(userId, unread));
+                eventPublisher.publishEvent(NotificationReadEvent.of(userId, 0L));
             }
         });
+        return updated;
     }
 
     public void deleteNotification(Integer userId, Integer notificationId) {
@@ -264,45 +278,69 @@ public class NotificationCommandService {
         }
 
         notificationRepository.delete(notification);
-    }
-
-    public void deleteAllRead(Integer userId) {
-        notificationRepository.deleteByUserIdAndReadTrue(userId);
-    }
 
-    // ============ 헬퍼 ============
+        // 읽지 않은 알림을 지웠으면 미읽음 카운트도 줄이고 갱신값을 전달
+        if (!notification.isRead()) {
+            long unread = unreadCounter.decrement(userId);
 
-    private String mergeVariables(String text, Map<String, String> variables) {
-        if (text == null || variables == null || variables.isEmpty()) {
-            return text;
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    eventPublisher.publishEvent(NotificationReadEvent.of(userId, unread));
+                }
+            });
         }
+    }
 
-        String merged = text;
-        for (Map.Entry<String, String> entry : variables.entrySet()) {
-            String placeholder = "{{" + entry.getKey() + "}}";
-            merged = merged.replace(placeholder, Objects.toString(entry.getValue(), ""));
-        }
-        return merged;
+    /**
+     * 읽은 알림을 LIMIT 청크로 나눠 지운다. 청크마다 커밋하므로 바깥 트랜잭션 없이 실행.
+     *
+     * @return 삭제된 알림 수
+     */
+    @Transactional(transactionManager = "transactionManager", propagation = Propagation.NOT_SUPPORTED)
+    public long deleteAllRead(Integer userId) {
+        long deleted = 0;
+        int chunk;
+        do {
+            chunk = notificationRepository.deleteReadByUserIdLimit(userId, DELETE_CHUNK_SIZE);
+            deleted += chunk;
+        } while (chunk == DELETE_CHUNK_SIZE);
+        return deleted;
     }
 
+    // ============ 이벤트 알림 ============
+
+    // outbox relay 가 호출. 알림 하나 실패가 relay 배치 트랜잭션(outbox 잠금)을 롤백시키지 않도록 별도 트랜잭션
     @Transactional(transactionManager = "transactionManager", propagation = Propagation.REQUIRES_NEW)
     public void notifyThreadReply(Integer targetUserId, Integer threadId, String writerNickname) {
 
-        NotificationTemplate template = templateRepository
-                .findByTypeAndDeletedFalse(NotificationTemplateType.EVENT_THREAD_REPLY)
+        NotificationTemplateSnapshot template = templateCache
+                .findByType(NotificationTemplateType.EVENT_THREAD_REPLY)
                 .orElseThrow(() -> new ResponseStatusException(
                         HttpStatus.INTERNAL_SERVER_ERROR,
                         "EVENT_THREAD_REPLY 템플릿이 없습니다."
                 ));
 
-        NotificationSendRequest req = NotificationSendRequest.builder()
-                .targetUserId(targetUserId)
-                .variables(Map.of(
-                        "writerNickname", writerNickname,
-                        "threadId", String.valueOf(threadId)
-                ))
-                .build();
+        Map<String, String> variables = Map.of(
+                "writerNickname", writerNickname,
+                "threadId", String.valueOf(threadId)
+        );
+
+        // 변수를 서버가 채우는 이벤트 템플릿: 빠진 변수가 있으면 {{key}} 를 그대로 보내지 않고 실패시킨다 (outbox 재시도)
+        sendRendered(template.id(), targetUserId, templateRenderer.renderStrict(template, variables));
+    }
 
-        sendByTemplate(template.getId(), req);
+    // 커밋 전에 비우면 다른 요청이 옛 값을 다시 올릴 수 있으므로 커밋 후 무효화
+    private void invalidateTemplateCacheAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            templateCache.invalidateAll();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                templateCache.invalidateAll();
+            }
+        });
     }
 }
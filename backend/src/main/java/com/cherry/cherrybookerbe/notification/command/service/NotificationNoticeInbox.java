@@ -0,0 +1,112 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.event.NotificationNoticeCreatedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 공지(fan-out-on-read) 지연 생성 앞단. 알림함 조회 전, 조회 트랜잭션 밖에서 호출한다.
+ * 최신 공지 id 와 유저별 "여기까지 옮김" 을 메모리에 두어 이미 최신인 유저는 쿼리 없이 끝난다.
+ * fan-out-on-write 모드에서는 공지가 생기지 않으므로 아무것도 하지 않는다.
+ */
+@Slf4j
+@Component
+public class NotificationNoticeInbox {
+
+    // 추적 유저가 이보다 많아지면 비우고 다시 채운다 (다시 채울 때 유저당 워터마크 조회 1번)
+    private static final int MAX_TRACKED_USERS = 100_000;
+
+    private final NotificationNoticeService noticeService;
+    private final boolean enabled;
+    private final long refreshMs;
+
+    // 다른 파드에서 등록된 공지는 NOTICE 메시지로 알게 되고, 놓쳐도 refreshMs 마다 DB 에서 다시 읽는다
+    private volatile int latestNoticeId = -1;
+    private volatile long latestLoadedAt;
+    private final Map<Integer, Integer> syncedUpTo = new ConcurrentHashMap<>();
+
+    public NotificationNoticeInbox(NotificationNoticeService noticeService,
+                                   @Value("${notification.broadcast.mode:fan-out-on-write}") String mode,
+                                   @Value("${notification.broadcast.notice-refresh-ms:30000}") long refreshMs) {
+        this.noticeService = noticeService;
+        this.enabled = NotificationBroadcaster.MODE_FAN_OUT_ON_READ.equalsIgnoreCase(mode.trim());
+        this.refreshMs = Math.max(refreshMs, 1_000L);
+    }
+
+    /**
+     * 이 유저에게 아직 옮기지 않은 공지가 있으면 옮긴다.
+     * 트랜잭션 밖에서 부르면 옮길 게 있을 때만 쓰기 트랜잭션 하나를 연다.
+     */
+    public void sync(Integer userId) {
+        if (!enabled) {
+            return;
+        }
+        int latest = latestNoticeId();
+        if (latest <= 0) {
+            return;
+        }
+        Integer synced = syncedUpTo.get(userId);
+        if (synced != null && synced >= latest) {
+            return;
+        }
+
+        noticeService.materialize(userId, latest);
+        remember(userId, latest);
+    }
+
+    // 공지 등록 (이 파드 커밋 후 이벤트 / 다른 파드에서 온 NOTICE 메시지)
+    public void noticePublished(int noticeId) {
+        if (noticeId > latestNoticeId) {
+            latestNoticeId = noticeId;
+        }
+    }
+
+    @EventListener
+    public void onNoticeCreated(NotificationNoticeCreatedEvent event) {
+        if (event.noticeId() != null) {
+            noticePublished(event.noticeId());
+        }
+    }
+
+    private int latestNoticeId() {
+        long now = System.currentTimeMillis();
+        if (latestNoticeId < 0 || now - latestLoadedAt > refreshMs) {
+            try {
+                noticePublished(noticeService.findLatestNoticeId());
+                latestLoadedAt = now;
+            } catch (RuntimeException e) {
+                // 못 읽으면 알고 있던 값으로 진행 (처음이면 이번 조회는 건너뜀)
+                log.warn("[NOTIFICATION] latest notice id refresh failed", e);
+            }
+        }
+        return latestNoticeId;
+    }
+
+    // 롤백되면 다시 옮겨야 하므로 커밋 후에 기록
+    private void remember(Integer userId, int noticeId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    put(userId, noticeId);
+                }
+            });
+        } else {
+            put(userId, noticeId);
+        }
+    }
+
+    private void put(Integer userId, int noticeId) {
+        if (syncedUpTo.size() >= MAX_TRACKED_USERS) {
+            syncedUpTo.clear();
+        }
+        syncedUpTo.merge(userId, noticeId, Math::max);
+    }
+}
@@ -0,0 +1,99 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationNotice;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationNoticeRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationNoticeWatermarkRepository;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationNoticeCreatedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+
+// 전체 공지 fan-out-on-read: 발송은 alarm_notice 1행, 유저별 alarm_log 행은 그 유저가 알림함을 볼 때 만든다
+@Service
+@Transactional(transactionManager = "transactionManager")
+public class NotificationNoticeService {
+
+    private final NotificationNoticeRepository noticeRepository;
+    private final NotificationNoticeWatermarkRepository watermarkRepository;
+    private final NotificationJdbcRepository notificationJdbcRepository;
+    private final NotificationUnreadCounterService unreadCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int lookbackDays;
+
+    public NotificationNoticeService(NotificationNoticeRepository noticeRepository,
+                                     NotificationNoticeWatermarkRepository watermarkRepository,
+                                     NotificationJdbcRepository notificationJdbcRepository,
+                                     NotificationUnreadCounterService unreadCounter,
+                                     ApplicationEventPublisher eventPublisher,
+                                     @Value("${notification.broadcast.notice-lookback-days:30}") int lookbackDays) {
+        this.noticeRepository = noticeRepository;
+        this.watermarkRepository = watermarkRepository;
+        this.notificationJdbcRepository = notificationJdbcRepository;
+        this.unreadCounter = unreadCounter;
+        this.eventPublisher = eventPublisher;
+        this.lookbackDays = lookbackDays;
+    }
+
+    public void publish(String title, String content) {
+        NotificationNotice saved = noticeRepository.save(NotificationNotice.builder()
+                .title(title)
+                .content(content)
+                .build());
+
+        NotificationNoticeCreatedEvent event = new NotificationNoticeCreatedEvent(
+                saved.getId(), saved.getTitle(), saved.getContent(), saved.getCreatedAt());
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventPublisher.publishEvent(event);
+            }
+        });
+    }
+
+    /**
+     * upToNoticeId 까지의 공지 중 아직 이 유저의 alarm_log 로 옮기지 않은 것을 옮기고 미읽음 카운터에 반영한다.
+     * 조회 트랜잭션 안에서 부르지 않는다 (NotificationNoticeInbox 가 읽기 전에 트랜잭션 밖에서 호출).
+     *
+     * @return 새로 생성된 알림 수
+     */
+    public int materialize(Integer userId, int upToNoticeId) {
+        if (upToNoticeId <= 0) {
+            return 0;
+        }
+
+        // 파드 재시작 직후 등 처음 보는 유저: 워터마크만 읽고 끝나는 경우가 대부분 (잠금 없음)
+        Integer mark = watermarkRepository.findLastNoticeId(userId).orElse(null);
+        if (mark != null && mark >= upToNoticeId) {
+            return 0;
+        }
+
+        watermarkRepository.insertIfAbsent(userId);
+        int locked = watermarkRepository.lockLastNoticeId(userId);
+        if (locked >= upToNoticeId) {
+            return 0;
+        }
+
+        // 워터마크가 없던 유저(신규 가입 등)는 최근 lookbackDays 공지만 받음
+        LocalDateTime since = LocalDateTime.now().minusDays(lookbackDays);
+        int inserted = notificationJdbcRepository.materializeNotices(userId, locked, upToNoticeId, since);
+        watermarkRepository.updateLastNoticeId(userId, upToNoticeId);
+
+        if (inserted > 0) {
+            unreadCounter.incrementBy(userId, inserted);
+        }
+        return inserted;
+    }
+
+    // 공지가 없으면 0
+    @Transactional(transactionManager = "transactionManager", readOnly = true)
+    public int findLatestNoticeId() {
+        return noticeRepository.findLatestId();
+    }
+}
@@ -0,0 +1,89 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationUnreadCounter;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationUnreadCounterRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 유저별 미읽음 카운터 (alarm_unread_counter). alarm_log 변경과 같은 트랜잭션에서 증감한다.
+@Service
+@RequiredArgsConstructor
+@Transactional(transactionManager = "transactionManager")
+public class NotificationUnreadCounterService {
+
+    private final NotificationUnreadCounterRepository counterRepository;
+    private final NotificationRepository notificationRepository;
+
+    // 미읽음 알림 1건 저장 후 호출. 반환값은 증가 후 미읽음 수
+    public long increment(Integer userId) {
+        return add(userId, 1);
+    }
+
+    // 미읽음 알림 여러 건 저장 후 호출 (공지 지연 생성 등)
+    public long incrementBy(Integer userId, long delta) {
+        return add(userId, delta);
+    }
+
+    // 미읽음 알림 1건을 읽음/삭제 처리한 뒤 호출. 반환값은 감소 후 미읽음 수
+    public long decrement(Integer userId) {
+        return add(userId, -1);
+    }
+
+    // 전체 읽음 처리 후 호출
+    public long reset(Integer userId) {
+        counterRepository.upsertUnreadCount(userId, 0);
+        return 0;
+    }
+
+    // 전체 발송 청크 저장 후 호출 (청크당 UPDATE 1회 + 시딩 INSERT 1회)
+    public void incrementAll(Collection<Integer> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        counterRepository.incrementAll(userIds);
+        counterRepository.seedMissing(userIds);
+    }
+
+    @Transactional(transactionManager = "transactionManager", readOnly = true)
+    public long get(Integer userId) {
+        // 아직 카운터가 없는 유저(첫 알림 전)는 alarm_log 로 계산
+        return counterRepository.findUnreadCountByUserId(userId)
+                .orElseGet(() -> notificationRepository.countByUserIdAndReadFalse(userId));
+    }
+
+    @Transactional(transactionManager = "transactionManager", readOnly = true)
+    public Map<Integer, Long> getAll(Collection<Integer> userIds) {
+        Map<Integer, Long> result = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return result;
+        }
+
+        for (NotificationUnreadCounter counter : counterRepository.findByUserIdIn(userIds)) {
+            result.put(counter.getUserId(), counter.getUnreadCount());
+        }
+
+        List<Integer> missing = userIds.stream()
+                .filter(uid -> !result.containsKey(uid))
+                .toList();
+        if (!missing.isEmpty()) {
+            result.putAll(notificationRepository.countUnreadByUserIds(missing));
+        }
+        return result;
+    }
+
+    private long add(Integer userId, long delta) {
+        if (counterRepository.addUnreadCount(userId, delta) == 0
+                && counterRepository.seedMissing(List.of(userId)) == 0) {
+            // 다른 트랜잭션이 먼저 시딩한 경우 → 그 값 위에 다시 증감
+            counterRepository.addUnreadCount(userId, delta);
+        }
+        return counterRepository.findUnreadCountByUserId(userId).orElse(0L);
+    }
+}
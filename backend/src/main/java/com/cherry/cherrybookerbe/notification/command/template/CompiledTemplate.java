@@ -0,0 +1,103 @@
+package com.cherry.cherrybookerbe.notification.command.template;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+// "{{key}}" 치환용으로 한 번 파싱해 둔 템플릿 (불변)
+// 리터럴/변수 조각 목록을 들고 있다가 한 번의 순회로 결과 문자열을 만든다.
+public final class CompiledTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private record Segment(String text, boolean variable) {}
+
+    private final String source;
+    private final List<Segment> segments;
+    private final Set<String> variableNames;
+    private final int literalLength;
+
+    private CompiledTemplate(String source, List<Segment> segments, Set<String> variableNames, int literalLength) {
+        this.source = source;
+        this.segments = segments;
+        this.variableNames = variableNames;
+        this.literalLength = literalLength;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        List<Segment> segments = new ArrayList<>();
+        Set<String> names = new LinkedHashSet<>();
+        int literalLength = 0;
+
+        if (source != null) {
+            int pos = 0;
+            while (pos < source.length()) {
+                int open = source.indexOf(OPEN, pos);
+                int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+                if (close < 0) {
+                    // 남은 부분에 닫히는 placeholder 가 없으면 전부 리터럴
+                    segments.add(new Segment(source.substring(pos), false));
+                    literalLength += source.length() - pos;
+                    break;
+                }
+
+                if (open > pos) {
+                    segments.add(new Segment(source.substring(pos, open), false));
+                    literalLength += open - pos;
+                }
+                String name = source.substring(open + OPEN.length(), close);
+                segments.add(new Segment(name, true));
+                names.add(name);
+                pos = close + CLOSE.length();
+            }
+        }
+
+        return new CompiledTemplate(source, List.copyOf(segments), Collections.unmodifiableSet(names), literalLength);
+    }
+
+    public String source() {
+        return source;
+    }
+
+    public Set<String> variableNames() {
+        return variableNames;
+    }
+
+    // 템플릿에 있지만 variables 에 키가 없는 변수 이름
+    public Set<String> missingVariables(Map<String, String> variables) {
+        if (variableNames.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> missing = new LinkedHashSet<>();
+        for (String name : variableNames) {
+            if (variables == null || !variables.containsKey(name)) {
+                missing.add(name);
+            }
+        }
+        return missing;
+    }
+
+    // 없는 변수는 placeholder 그대로 남긴다 (누락을 막아야 하면 missingVariables 로 먼저 검사)
+    public String render(Map<String, String> variables) {
+        if (source == null || variableNames.isEmpty()) {
+            return source;
+        }
+
+        StringBuilder sb = new StringBuilder(literalLength + variableNames.size() * 16);
+        for (Segment segment : segments) {
+            if (!segment.variable()) {
+                sb.append(segment.text());
+            } else if (variables != null && variables.containsKey(segment.text())) {
+                sb.append(Objects.toString(variables.get(segment.text()), ""));
+            } else {
+                sb.append(OPEN).append(segment.text()).append(CLOSE);
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,84 @@
+package com.cherry.cherrybookerbe.notification.command.template;
+
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationTemplateType;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationTemplateRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+// 템플릿 스냅샷 캐시 (id / type 별). 템플릿 CUD 커밋 후 invalidateAll → Redis 로 전 파드에 전파
+@Slf4j
+@Component
+public class NotificationTemplateCache implements MessageListener {
+
+    public static final String BY_ID = "notificationTemplateById";
+    public static final String BY_TYPE = "notificationTemplateByType";
+
+    private final NotificationTemplateRepository templateRepository;
+    private final CacheManager cacheManager;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+
+    public NotificationTemplateCache(NotificationTemplateRepository templateRepository,
+                                     CacheManager cacheManager,
+                                     RedisTemplate<String, String> redisTemplate,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     @Value("${notification.template-cache.invalidate-channel:notification:template:invalidate}") String channel) {
+        this.templateRepository = templateRepository;
+        this.cacheManager = cacheManager;
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+    }
+
+    // 없는 템플릿(empty)은 캐시하지 않음
+    @Cacheable(cacheNames = BY_ID, key = "#templateId", unless = "#result == null")
+    public Optional<NotificationTemplateSnapshot> findById(Integer templateId) {
+        return templateRepository.findById(templateId).map(NotificationTemplateSnapshot::from);
+    }
+
+    @Cacheable(cacheNames = BY_TYPE, key = "#type", unless = "#result == null")
+    public Optional<NotificationTemplateSnapshot> findByType(NotificationTemplateType type) {
+        return templateRepository.findByTypeAndDeletedFalse(type).map(NotificationTemplateSnapshot::from);
+    }
+
+    public void invalidateAll() {
+        clearLocal();
+        try {
+            redisTemplate.convertAndSend(channel, "all");
+        } catch (Exception e) {
+            log.warn("[NOTIFICATION] template cache invalidation publish failed", e);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        clearLocal();
+    }
+
+    private void clearLocal() {
+        for (String name : new String[]{BY_ID, BY_TYPE}) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.cherry.cherrybookerbe.notification.command.template;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 컴파일된 템플릿 스냅샷의 제목/본문 변수 치환
+@Component
+public class NotificationTemplateRenderer {
+
+    public record Rendered(String title, String body) {}
+
+    /**
+     * 제목/본문을 치환한다. variables 에 없는 변수는 {{key}} 그대로 남긴다 (관리자 발송: 변수 입력 없이도 보낼 수 있다).
+     */
+    public Rendered render(NotificationTemplateSnapshot template, Map<String, String> variables) {
+        return new Rendered(template.title().render(variables), template.body().render(variables));
+    }
+
+    /**
+     * 이벤트 템플릿용: 변수를 서버가 채우므로 하나라도 빠지면 템플릿/코드 불일치로 보고 INTERNAL_SERVER_ERROR.
+     */
+    public Rendered renderStrict(NotificationTemplateSnapshot template, Map<String, String> variables) {
+        Set<String> missing = new LinkedHashSet<>(template.title().missingVariables(variables));
+        missing.addAll(template.body().missingVariables(variables));
+        if (!missing.isEmpty()) {
+            throw new ResponseStatusException(
+                    HttpStatus.INTERNAL_SERVER_ERROR,
+                    "템플릿(" + template.id() + ") 변수가 누락되었습니다: " + String.join(", ", missing));
+        }
+
+        return render(template, variables);
+    }
+}
@@ -0,0 +1,24 @@
+package com.cherry.cherrybookerbe.notification.command.template;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationTemplate;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationTemplateType;
+
+// 캐시에 올리는 템플릿 스냅샷 (엔티티와 분리된 불변 값, 제목/본문은 컴파일된 상태)
+public record NotificationTemplateSnapshot(
+        Integer id,
+        NotificationTemplateType type,
+        boolean deleted,
+        CompiledTemplate title,
+        CompiledTemplate body
+) {
+
+    public static NotificationTemplateSnapshot from(NotificationTemplate template) {
+        return new NotificationTemplateSnapshot(
+                template.getId(),
+                template.getType(),
+                template.isDeleted(),
+                CompiledTemplate.compile(template.getTitle()),
+                CompiledTemplate.compile(template.getBody())
+        );
+    }
+}
@@ -2,10 +2,14 @@ package com.cherry.cherrybookerbe.notification.query.controller;
 
 import com.cherry.cherrybookerbe.common.dto.ApiResponse;
 import com.cherry.cherrybookerbe.common.security.auth.UserPrincipal;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationNoticeInbox;
+import com.cherry.cherrybookerbe.notification.query.dto.response.NotificationCursorResponse;
 import com.cherry.cherrybookerbe.notification.query.dto.response.NotificationPageResponse;
 import com.cherry.cherrybookerbe.notification.query.dto.response.NotificationSendLogPageResponse;
+import com.cherry.cherrybookerbe.notification.query.dto.response.NotificationSendLogResponse;
 import com.cherry.cherrybookerbe.notification.query.dto.response.NotificationTemplatePageResponse;
 import com.cherry.cherrybookerbe.notification.query.service.NotificationQueryService;
+import com.cherry.cherrybookerbe.notification.query.sse.NotificationReactiveStreams;
 import com.cherry.cherrybookerbe.notification.query.sse.NotificationSseEmitters;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -13,11 +17,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
 
 @RestController
 @RequiredArgsConstructor
@@ -26,6 +32,9 @@ public class NotificationQueryController {
 
     private final NotificationQueryService queryService;
     private final NotificationSseEmitters emitters;
+    private final NotificationReactiveStreams reactiveStreams;
+    // 전체 공지(fan-out-on-read)는 조회 트랜잭션이 열리기 전에 내 알림함으로 옮긴다
+    private final NotificationNoticeInbox noticeInbox;
 
     // ===== 내 알림 목록 =====
 
@@ -40,10 +49,30 @@ public class NotificationQueryController {
         }
 
         Integer userId = principal.userId();
+        noticeInbox.sync(userId);
         var res = queryService.getMyNotifications(userId, page, size);
         return ResponseEntity.ok(ApiResponse.success(res));
     }
 
+    // 무한 스크롤용 커서 페이지네이션 (총 개수 없이 nextCursor 반환)
+    @GetMapping("/api/notifications/me/cursor")
+    public ResponseEntity<ApiResponse<NotificationCursorResponse>> getMyNotificationsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        if (principal == null || principal.userId() == null) {
+            throw new AccessDeniedException("인증 정보가 없습니다.");
+        }
+
+        // 첫 페이지에서만 공지를 옮긴다 (다음 페이지는 같은 세션의 연속 조회)
+        if (cursor == null || cursor.isBlank()) {
+            noticeInbox.sync(principal.userId());
+        }
+        var res = queryService.getMyNotificationsByCursor(principal.userId(), cursor, size);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
+
     @GetMapping("/api/notifications/me/unread-count")
     public ResponseEntity<ApiResponse<Long>> getMyUnreadCount(
             @AuthenticationPrincipal UserPrincipal principal
@@ -52,6 +81,7 @@ public class NotificationQueryController {
             throw new AccessDeniedException("인증 정보가 없습니다.");
         }
 
+        noticeInbox.sync(principal.userId());
         long count = queryService.getMyUnreadCount(principal.userId());
         return ResponseEntity.ok(ApiResponse.success(count));
     }
@@ -62,7 +92,9 @@ public class NotificationQueryController {
             summary = "알림 SSE 스트림 구독",
             description = """
                     현재 로그인한 사용자의 알림 이벤트를 SSE(Server-Sent Events)로 실시간 구독한다.
-                    이벤트 타입: INIT, NOTIFICATION, UNREAD_COUNT, PING
+                    이벤트 타입: INIT, NOTIFICATION, UNREAD_COUNT, PING, RESYNC
+                    재연결 시 Last-Event-ID 헤더를 보내면 놓친 이벤트를 다시 보내고,
+                    버퍼에서 이미 밀려난 구간이 있으면 RESYNC 를 보낸다 (클라이언트는 목록/미읽음 수 재조회).
                     """
     )
     @ApiResponses({
@@ -77,6 +109,7 @@ public class NotificationQueryController {
             produces = MediaType.TEXT_EVENT_STREAM_VALUE
     )
     public SseEmitter stream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
             @AuthenticationPrincipal UserPrincipal principal
     ) {
         if (principal == null || principal.userId() == null) {
@@ -84,7 +117,31 @@ public class NotificationQueryController {
         }
 
         // emitters가 Long 기반
-        return emitters.add(principal.userId().longValue());
+        // 재연결이면 Last-Event-ID 이후 놓친 이벤트를 먼저 다시 보낸다
+        return emitters.add(principal.userId().longValue(), lastEventId);
+    }
+
+    @Operation(
+            summary = "알림 SSE 스트림 구독 (reactive)",
+            description = """
+                    /me/stream 과 같은 이벤트를 Flux 기반 스트림으로 구독한다.
+                    연결당 스레드/emitter 를 잡지 않아 파드당 대량의 동시 스트림에 적합하다.
+                    이벤트 타입: INIT, NOTIFICATION, UNREAD_COUNT, PING, RESYNC
+                    """
+    )
+    @GetMapping(
+            value = "/api/notifications/me/stream/reactive",
+            produces = MediaType.TEXT_EVENT_STREAM_VALUE
+    )
+    public Flux<ServerSentEvent<Object>> reactiveStream(
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId,
+            @AuthenticationPrincipal UserPrincipal principal
+    ) {
+        if (principal == null || principal.userId() == null) {
+            throw new AccessDeniedException("인증 정보가 없습니다.");
+        }
+
+        return reactiveStreams.stream(principal.userId().longValue(), lastEventId);
     }
 
     // ===== 관리자 템플릿 목록/검색 =====
@@ -111,4 +168,13 @@ public class NotificationQueryController {
         var res = queryService.getSendLogs(page, size);
         return ResponseEntity.ok(ApiResponse.success(res));
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/api/admin/notifications/send-logs/{sendLogId}")
+    public ResponseEntity<ApiResponse<NotificationSendLogResponse>> getSendLog(
+            @PathVariable Integer sendLogId
+    ) {
+        var res = queryService.getSendLog(sendLogId);
+        return ResponseEntity.ok(ApiResponse.success(res));
+    }
 }
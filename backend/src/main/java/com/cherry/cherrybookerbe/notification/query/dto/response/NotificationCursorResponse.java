@@ -0,0 +1,16 @@
+package com.cherry.cherrybookerbe.notification.query.dto.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 내 알림 목록 (총 개수 없음, 다음 페이지는 nextCursor 로 요청)
+@Getter
+@Builder
+public class NotificationCursorResponse {
+
+    private final List<NotificationSummaryResponse> notifications;
+    private final String nextCursor;
+    private final boolean hasNext;
+}
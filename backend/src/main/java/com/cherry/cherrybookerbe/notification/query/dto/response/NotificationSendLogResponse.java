@@ -17,8 +17,26 @@ public class NotificationSendLogResponse {
     private final NotificationSendStatus status;
     private final String bodySnapshot;
     private final LocalDateTime sentAt;
+    // 전체 발송 진행률
+    private final int totalCount;
+    private final int sentCount;
+    private final int failedCount;
+    private final int remainingCount;
+    private final LocalDateTime finishedAt;
+    // 배달 집계 (라이브 전달 / 큐 넘침·끊김 / 미접속)
+    private final int pushedCount;
+    private final int droppedCount;
+    private final int offlineCount;
+    private final Double deliveryRate;
+    // 생성→SSE write 지연 백분위 (버킷 상한 ms, 집계 전이면 null)
+    private final Long p50LatencyMs;
+    private final Long p99LatencyMs;
 
     public static NotificationSendLogResponse from(NotificationSendLog log) {
+        return from(log, null, null);
+    }
+
+    public static NotificationSendLogResponse from(NotificationSendLog log, Long p50LatencyMs, Long p99LatencyMs) {
         return NotificationSendLogResponse.builder()
                 .sendLogId(log.getId())
                 .templateId(log.getTemplate().getId())
@@ -26,6 +44,17 @@ public class NotificationSendLogResponse {
                 .status(log.getStatus())
                 .bodySnapshot(log.getBodySnapshot())
                 .sentAt(log.getSentAt())
+                .totalCount(log.getTotalCount())
+                .sentCount(log.getSentCount())
+                .failedCount(log.getFailedCount())
+                .remainingCount(log.getRemainingCount())
+                .finishedAt(log.getFinishedAt())
+                .pushedCount(log.getPushedCount())
+                .droppedCount(log.getDroppedCount())
+                .offlineCount(log.getOfflineCount())
+                .deliveryRate(log.getDeliveryRate())
+                .p50LatencyMs(p50LatencyMs)
+                .p99LatencyMs(p99LatencyMs)
                 .build();
     }
 }
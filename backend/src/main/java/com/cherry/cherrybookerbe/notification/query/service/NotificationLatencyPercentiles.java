@@ -0,0 +1,36 @@
+package com.cherry.cherrybookerbe.notification.query.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLatency;
+
+import java.util.Comparator;
+import java.util.List;
+
+// 지연 버킷(상한 ms, 건수) 목록에서 백분위를 구한다. 결과는 해당 백분위가 속한 버킷의 상한
+final class NotificationLatencyPercentiles {
+
+    private NotificationLatencyPercentiles() {
+    }
+
+    static Long of(List<NotificationSendLatency> buckets, double quantile) {
+        long total = 0;
+        for (NotificationSendLatency bucket : buckets) {
+            total += bucket.getCount();
+        }
+        if (total == 0) {
+            return null;
+        }
+
+        long rank = (long) Math.ceil(total * quantile);
+        long seen = 0;
+        List<NotificationSendLatency> sorted = buckets.stream()
+                .sorted(Comparator.comparingLong(NotificationSendLatency::getBucketMs))
+                .toList();
+        for (NotificationSendLatency bucket : sorted) {
+            seen += bucket.getCount();
+            if (seen >= rank) {
+                return bucket.getBucketMs();
+            }
+        }
+        return sorted.get(sorted.size() - 1).getBucketMs();
+    }
+}
@@ -1,21 +1,30 @@
 package com.cherry.cherrybookerbe.notification.query.service;
 
+import com.cherry.cherrybookerbe.common.dto.KeysetCursor;
 import com.cherry.cherrybookerbe.common.dto.Pagination;
+import com.cherry.cherrybookerbe.notification.command.domain.entity.Notification;
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLatency;
 import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLog;
 import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationTemplate;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLatencyRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationTemplateRepository;
 import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationTemplateResponse;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationUnreadCounterService;
 import com.cherry.cherrybookerbe.notification.query.dto.response.*;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -27,7 +36,10 @@ public class NotificationQueryService {
     private final NotificationRepository notificationRepository;
     private final NotificationTemplateRepository templateRepository;
     private final NotificationSendLogRepository sendLogRepository;
+    private final NotificationSendLatencyRepository latencyRepository;
+    private final NotificationUnreadCounterService unreadCounter;
 
+    // 전체 공지(fan-out-on-read) 옮기기는 컨트롤러가 이 트랜잭션 밖에서 먼저 한다 (NotificationNoticeInbox)
     public NotificationPageResponse getMyNotifications(Integer userId, int page, Integer size) {
         int pageSize = resolveSize(size);
         PageRequest pageable = PageRequest.of(
@@ -36,7 +48,7 @@ public class NotificationQueryService {
                 Sort.by(Sort.Direction.DESC, "createdAt")
         );
 
-        Page<com.cherry.cherrybookerbe.notification.command.domain.entity.Notification> result =
+        Page<Notification> result =
                 notificationRepository.findByUserIdOrderByCreatedAtDesc(userId, pageable);
 
         List<NotificationSummaryResponse> items = result.getContent().stream()
@@ -55,8 +67,41 @@ public class NotificationQueryService {
                 .build();
     }
 
+    /**
+     * 커서 기반 내 알림 목록. (createdAt, id) 로 seek 하므로 깊은 페이지도 첫 페이지와 비용이 같고 COUNT 도 없다.
+     * cursor 가 없으면 첫 페이지.
+     */
+    public NotificationCursorResponse getMyNotificationsByCursor(Integer userId, String cursor, Integer size) {
+        int pageSize = resolveSize(size);
+        // 다음 페이지 존재 여부 확인용으로 하나 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Notification> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = notificationRepository.findLatestByUserId(userId, limit);
+        } else {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            rows = notificationRepository.findByUserIdBefore(userId, after.createdAt(), after.id(), limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Notification> page = hasNext ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Notification last = page.get(page.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return NotificationCursorResponse.builder()
+                .notifications(page.stream().map(NotificationSummaryResponse::from).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
     public long getMyUnreadCount(Integer userId) {
-        return notificationRepository.countByUserIdAndReadFalse(userId);
+        return unreadCounter.get(userId);
     }
 
     public NotificationTemplatePageResponse getTemplates(String keyword, int page, Integer size) {
@@ -101,8 +146,14 @@ public class NotificationQueryService {
         Page<NotificationSendLog> result =
                 sendLogRepository.findAllByOrderBySentAtDesc(pageable);
 
+        // 지연 버킷은 페이지의 로그 전체를 한 번에 조회
+        Map<Integer, List<NotificationSendLatency>> latencyByLog = latencyRepository
+                .findBySendLogIdIn(result.getContent().stream().map(NotificationSendLog::getId).toList())
+                .stream()
+                .collect(Collectors.groupingBy(NotificationSendLatency::getSendLogId));
+
         List<NotificationSendLogResponse> items = result.getContent().stream()
-                .map(NotificationSendLogResponse::from)
+                .map(log -> toSendLogResponse(log, latencyByLog.getOrDefault(log.getId(), List.of())))
                 .toList();
 
         Pagination pagination = Pagination.builder()
@@ -117,6 +168,22 @@ public class NotificationQueryService {
                 .build();
     }
 
+    // 발송 로그 단건 (전체 발송 진행률 폴링용)
+    public NotificationSendLogResponse getSendLog(Integer sendLogId) {
+        NotificationSendLog log = sendLogRepository.findById(sendLogId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "발송 로그를 찾을 수 없습니다."));
+        return toSendLogResponse(log, latencyRepository.findBySendLogIdIn(List.of(sendLogId)));
+    }
+
+    private NotificationSendLogResponse toSendLogResponse(NotificationSendLog log,
+                                                          List<NotificationSendLatency> latency) {
+        return NotificationSendLogResponse.from(
+                log,
+                NotificationLatencyPercentiles.of(latency, 0.5),
+                NotificationLatencyPercentiles.of(latency, 0.99)
+        );
+    }
+
     private int resolveSize(Integer size) {
         return (size == null || size <= 0) ? DEFAULT_PAGE_SIZE : size;
     }
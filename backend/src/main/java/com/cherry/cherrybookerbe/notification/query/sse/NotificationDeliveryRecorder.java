@@ -0,0 +1,185 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLatencyRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// 발송 로그별 SSE 배달 집계: dispatch 스레드는 메모리 카운터만 올리고, 주기적으로 모아서 DB 에 누적한다
+@Slf4j
+@Component
+public class NotificationDeliveryRecorder {
+
+    // 지연 버킷 상한(ms). 마지막 버킷은 그보다 느린 것까지 포함
+    static final long[] LATENCY_BUCKETS_MS = {10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000};
+
+    private final Map<Integer, Accumulator> bySendLog = new ConcurrentHashMap<>();
+
+    private final NotificationSendLogRepository sendLogRepository;
+    private final NotificationSendLatencyRepository latencyRepository;
+    private final Timer pushLatency;
+    private final long idleEvictMs;
+
+    public NotificationDeliveryRecorder(NotificationSendLogRepository sendLogRepository,
+                                        NotificationSendLatencyRepository latencyRepository,
+                                        MeterRegistry meterRegistry,
+                                        @Value("${notification.delivery.flush-interval-ms:5000}") long flushIntervalMs) {
+        this.sendLogRepository = sendLogRepository;
+        this.latencyRepository = latencyRepository;
+        this.pushLatency = Timer.builder("notification.delivery.push.latency")
+                .description("알림 생성 시각부터 SSE write 까지 걸린 시간")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.idleEvictMs = Math.max(flushIntervalMs, 1_000L) * 12;
+    }
+
+    /**
+     * NOTIFICATION 이벤트 하나에 대한 추적기. 이 파드의 연결 connections 개에 넣을 때 한 번 만든다.
+     * 발송 로그 id 가 없는 알림이면 null.
+     */
+    Tracker track(Object data, int connections) {
+        if (!(data instanceof JsonNode node)) {
+            return null;
+        }
+        JsonNode sendLogId = node.path("sendLogId");
+        if (!sendLogId.canConvertToInt()) {
+            return null;
+        }
+        return new Tracker(sendLogId.intValue(), createdAtMillis(node.path("createdAt")), connections);
+    }
+
+    private long createdAtMillis(JsonNode createdAt) {
+        try {
+            return LocalDateTime.parse(createdAt.asText())
+                    .atZone(ZoneId.systemDefault())
+                    .toInstant()
+                    .toEpochMilli();
+        } catch (DateTimeParseException e) {
+            // 형식을 모르면 dispatch 진입 시점부터 잰다
+            return System.currentTimeMillis();
+        }
+    }
+
+    private void recordPushed(Integer sendLogId, long latencyMs) {
+        long clamped = Math.max(latencyMs, 0);
+        Accumulator acc = accumulator(sendLogId);
+        acc.pushed.increment();
+        acc.latency[bucketOf(clamped)].increment();
+        pushLatency.record(clamped, TimeUnit.MILLISECONDS);
+    }
+
+    private void recordDropped(Integer sendLogId) {
+        accumulator(sendLogId).dropped.increment();
+    }
+
+    private Accumulator accumulator(Integer sendLogId) {
+        Accumulator acc = bySendLog.computeIfAbsent(sendLogId, k -> new Accumulator());
+        acc.touchedAt = System.currentTimeMillis();
+        return acc;
+    }
+
+    static int bucketOf(long latencyMs) {
+        for (int i = 0; i < LATENCY_BUCKETS_MS.length; i++) {
+            if (latencyMs <= LATENCY_BUCKETS_MS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKETS_MS.length - 1;
+    }
+
+    // 모인 카운트를 발송 로그/지연 버킷에 더한다. 실패하면 다음 주기에 다시 시도
+    @Scheduled(fixedDelayString = "${notification.delivery.flush-interval-ms:5000}")
+    public void flush() {
+        long now = System.currentTimeMillis();
+
+        for (Map.Entry<Integer, Accumulator> entry : bySendLog.entrySet()) {
+            Integer sendLogId = entry.getKey();
+            Accumulator acc = entry.getValue();
+
+            int pushed = (int) acc.pushed.sumThenReset();
+            int dropped = (int) acc.dropped.sumThenReset();
+            long[] latency = new long[LATENCY_BUCKETS_MS.length];
+            for (int i = 0; i < latency.length; i++) {
+                latency[i] = acc.latency[i].sumThenReset();
+            }
+
+            if (pushed == 0 && dropped == 0) {
+                // 한동안 이벤트가 없던 발송은 메모리에서 정리
+                if (now - acc.touchedAt > idleEvictMs) {
+                    bySendLog.remove(sendLogId, acc);
+                }
+                continue;
+            }
+
+            try {
+                sendLogRepository.addDelivery(sendLogId, pushed, dropped);
+                for (int i = 0; i < latency.length; i++) {
+                    if (latency[i] > 0) {
+                        latencyRepository.addCount(sendLogId, LATENCY_BUCKETS_MS[i], latency[i]);
+                    }
+                }
+            } catch (Exception e) {
+                log.warn("[NOTIFICATION] delivery flush failed. sendLogId={}", sendLogId, e);
+                acc.pushed.add(pushed);
+                acc.dropped.add(dropped);
+                for (int i = 0; i < latency.length; i++) {
+                    acc.latency[i].add(latency[i]);
+                }
+            }
+        }
+    }
+
+    private static final class Accumulator {
+        private final LongAdder pushed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+        private final LongAdder[] latency = new LongAdder[LATENCY_BUCKETS_MS.length];
+        private volatile long touchedAt = System.currentTimeMillis();
+
+        private Accumulator() {
+            for (int i = 0; i < latency.length; i++) {
+                latency[i] = new LongAdder();
+            }
+        }
+    }
+
+    // 같은 이벤트를 유저의 여러 탭(연결)에 넣어도 한 번만 센다: 하나라도 write 되면 pushed, 전부 잃으면 dropped
+    final class Tracker {
+        private final Integer sendLogId;
+        private final long createdAtMillis;
+        private final AtomicInteger remaining;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Tracker(Integer sendLogId, long createdAtMillis, int connections) {
+            this.sendLogId = sendLogId;
+            this.createdAtMillis = createdAtMillis;
+            this.remaining = new AtomicInteger(connections);
+        }
+
+        void pushed(long now) {
+            if (settled.compareAndSet(false, true)) {
+                recordPushed(sendLogId, now - createdAtMillis);
+            }
+        }
+
+        void lost() {
+            if (remaining.decrementAndGet() <= 0 && settled.compareAndSet(false, true)) {
+                recordDropped(sendLogId);
+            }
+        }
+    }
+}
@@ -1,26 +1,53 @@
 package com.cherry.cherrybookerbe.notification.query.sse;
 
+import com.cherry.cherrybookerbe.notification.command.event.NotificationChunkCreatedEvent;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationCreatedEvent;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationNoticeCreatedEvent;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationReadEvent;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 @Component
 @RequiredArgsConstructor
 public class NotificationEventHandler {
 
-    private final NotificationSseEmitters emitters;
+    // 유저의 스트림이 어느 파드에 붙어 있든 전달되도록 Redis 채널로 발행
+    private final NotificationStreamPublisher publisher;
+    // 연속 읽음 처리 등으로 몰리는 UNREAD_COUNT 는 유저별로 모아서 한 번만
+    private final NotificationUnreadCountDebouncer unreadCountDebouncer;
 
     // 새로운 알림이 생성되었을 때
     @EventListener
     public void onNotificationCreated(NotificationCreatedEvent event) {
-        emitters.sendToUser(event.getUserId().longValue(), "NOTIFICATION", event);
+        // 알림 본문이 실려 있으므로 바로 보냄. 대기 중인 UNREAD_COUNT 는 발행 시점에 다시 읽게 함
+        unreadCountDebouncer.invalidate(event.getUserId());
+        publisher.publish(event.getUserId().longValue(), "NOTIFICATION", event);
+    }
+
+    // 전체 발송 청크가 커밋되었을 때: 청크의 알림을 한 번에 발행 (리플레이 기록은 파이프라인 한 번, PUBLISH 한 번)
+    @EventListener
+    public void onNotificationChunkCreated(NotificationChunkCreatedEvent event) {
+        Map<Long, Object> dataByUser = new LinkedHashMap<>();
+        for (NotificationCreatedEvent created : event.events()) {
+            unreadCountDebouncer.invalidate(created.getUserId());
+            dataByUser.put(created.getUserId().longValue(), created);
+        }
+        publisher.publishAll("NOTIFICATION", dataByUser);
+    }
+
+    // 전체 공지(fan-out-on-read)가 등록되었을 때: 유저별 행이 아직 없으므로 연결된 전원에게 한 번에 알림
+    @EventListener
+    public void onNoticeCreated(NotificationNoticeCreatedEvent event) {
+        publisher.publishToAll("NOTICE", event);
     }
 
     // 읽음 처리되었을 때 (미읽음 카운트 재전달)
     @EventListener
     public void onNotificationRead(NotificationReadEvent event) {
-        emitters.sendToUser(event.getUserId().longValue(), "UNREAD_COUNT", event.getUnreadCount());
+        unreadCountDebouncer.request(event.getUserId(), event.getUnreadCount());
     }
 }
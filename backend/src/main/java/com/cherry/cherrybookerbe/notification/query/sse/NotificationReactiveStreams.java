@@ -0,0 +1,286 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.BufferOverflowStrategy;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+// reactive SSE 스트림 레지스트리: 유저당 multicast sink 하나, 구독자(탭)는 여러 개.
+// 소켓 write 는 reactor 가 논블로킹으로 처리하므로 스트림 수와 무관하게 적은 스레드로 유지된다.
+@Slf4j
+@Component
+public class NotificationReactiveStreams {
+
+    // 유저별 sink + 구독자 수. 붙이기/떼기를 compute 안에서 해서 떼는 중인 sink 에 새 탭이 붙지 않게 한다
+    private final Map<Long, UserSink> sinksByUser = new ConcurrentHashMap<>();
+
+    private final ReactiveRedisMessageListenerContainer listenerContainer;
+    private final NotificationStreamReplayBuffer replayBuffer;
+    private final NotificationDeliveryRecorder deliveryRecorder;
+    private final ObjectMapper objectMapper;
+    private final String channel;
+    private final boolean redisFanoutEnabled;
+    private final int bufferSize;
+    private final Duration heartbeatInterval;
+
+    private Disposable subscription;
+
+    public NotificationReactiveStreams(ReactiveRedisMessageListenerContainer listenerContainer,
+                                       NotificationStreamReplayBuffer replayBuffer,
+                                       NotificationDeliveryRecorder deliveryRecorder,
+                                       ObjectMapper objectMapper,
+                                       @Value("${notification.sse.redis-channel:notification:stream}") String channel,
+                                       @Value("${notification.sse.redis-fanout-enabled:true}") boolean redisFanoutEnabled,
+                                       @Value("${notification.sse.dispatch.queue-capacity:100}") int bufferSize,
+                                       @Value("${notification.sse.heartbeat-interval-ms:25000}") long heartbeatIntervalMs) {
+        this.listenerContainer = listenerContainer;
+        this.replayBuffer = replayBuffer;
+        this.deliveryRecorder = deliveryRecorder;
+        this.objectMapper = objectMapper;
+        this.channel = channel;
+        this.redisFanoutEnabled = redisFanoutEnabled;
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.heartbeatInterval = Duration.ofMillis(heartbeatIntervalMs);
+    }
+
+    // Redis 채널을 직접 구독해 이 파드에 열린 reactive 스트림으로 전달
+    @PostConstruct
+    void subscribe() {
+        if (!redisFanoutEnabled) {
+            return;
+        }
+        subscription = listenerContainer.receive(ChannelTopic.of(channel))
+                .subscribe(message -> {
+                    try {
+                        for (NotificationStreamMessage msg : NotificationStreamMessage.readAll(
+                                objectMapper, message.getMessage(), sinksByUser::containsKey)) {
+                            if (msg.userId() == null) {
+                                broadcast(msg.eventName(), msg.data());
+                            } else {
+                                sendToUser(msg.userId(), msg.id(), msg.eventName(), msg.data());
+                            }
+                        }
+                    } catch (Exception e) {
+                        log.warn("[SSE] invalid stream message on channel {}", channel, e);
+                    }
+                });
+    }
+
+    @PreDestroy
+    void unsubscribe() {
+        if (subscription != null) {
+            subscription.dispose();
+        }
+    }
+
+    public Flux<ServerSentEvent<Object>> stream(Long userId) {
+        return stream(userId, null);
+    }
+
+    // lastEventId: 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+    public Flux<ServerSentEvent<Object>> stream(Long userId, String lastEventId) {
+        // 이 유저의 이벤트부터 리플레이 버퍼에 남기기 시작 (요청 스레드에서 호출됨)
+        replayBuffer.open(userId);
+
+        ServerSentEvent<Object> init = ServerSentEvent.builder((Object) "ok").event("INIT").build();
+        Flux<ServerSentEvent<Object>> heartbeat = Flux.interval(heartbeatInterval)
+                .map(i -> ServerSentEvent.builder((Object) "ping").event("PING").build());
+
+        // sink 는 조립 시점이 아니라 구독 시점에 붙인다 (그 사이 다른 탭이 끝나며 sink 를 지워도 새로 붙음)
+        return Flux.defer(() -> {
+            UserSink userSink = attach(userId);
+
+            // 느린 구독자는 자기 버퍼에서 오래된 이벤트부터 버림 (다른 탭/유저에 영향 없음)
+            Flux<Delivery> live = userSink.sink.asFlux()
+                    .map(Delivery::of)
+                    .onBackpressureBuffer(bufferSize, Delivery::lost, BufferOverflowStrategy.DROP_OLDEST);
+
+            Flux<Delivery> events = live;
+            if (lastEventId != null && !lastEventId.isBlank()) {
+                // 라이브 구독을 먼저 시작해 두고(mergeSequential) 리플레이를 다 보낸 뒤 라이브를 이어 보냄.
+                // 리플레이와 겹치는 라이브 이벤트는 id 로 걸러낸다.
+                AtomicLong lastSentId = new AtomicLong(parseOrZero(lastEventId));
+                Flux<Delivery> replay = Mono.fromCallable(() -> replayBuffer.replay(userId, lastEventId))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .flatMapIterable(result -> {
+                            // 시퀀스가 다시 시작됐으면 헤더 값(옛 시퀀스) 대신 새 시퀀스 기준으로 거른다.
+                            // 라이브 이벤트는 리플레이가 끝난 뒤에야 흘러오므로 그 전에 바뀐다
+                            lastSentId.set(result.afterId());
+                            return toEvents(result);
+                        })
+                        .map(Delivery::new);
+                events = Flux.mergeSequential(replay, live)
+                        .<Delivery>handle((delivery, sink) -> {
+                            String id = delivery.event.id();
+                            if (id == null || isNewer(id, lastSentId)) {
+                                sink.next(delivery);
+                            } else {
+                                // 같은 id 를 리플레이로 이미 보냈으므로 배달된 것으로 센다
+                                delivery.pushed();
+                            }
+                        });
+            }
+
+            // 배달 집계: 구독자에게 넘어가는 시점(WebFlux 가 write 를 요청한 시점)에 pushed,
+            // 버퍼 넘침이나 연결 종료로 큐에서 버려지면 lost
+            return Flux.concat(Flux.just(new Delivery(init)), Flux.merge(events, heartbeat.map(Delivery::new)))
+                    .doOnNext(Delivery::pushed)
+                    .doOnDiscard(Delivery.class, Delivery::lost)
+                    .map(delivery -> delivery.event)
+                    .doFinally(signal -> detach(userId, userSink));
+        });
+    }
+
+    public void sendToUser(Long userId, Long eventId, String eventName, Object data) {
+        UserSink userSink = sinksByUser.get(userId);
+        if (userSink == null) {
+            return;
+        }
+
+        ServerSentEvent<Object> event = toEvent(eventId, eventName, data);
+        // Redis 구독 스레드와 로컬 발행 스레드가 동시에 emit 할 수 있으므로 직렬화
+        synchronized (userSink.sink) {
+            int subscribers = userSink.sink.currentSubscriberCount();
+            if (subscribers == 0) {
+                return;
+            }
+            // servlet 경로(NotificationSseEmitters)와 같은 규칙: 이 파드의 탭 중 하나라도 받으면 pushed
+            NotificationDeliveryRecorder.Tracker tracker =
+                    "NOTIFICATION".equals(eventName) ? deliveryRecorder.track(data, subscribers) : null;
+            if (userSink.sink.tryEmitNext(new LiveEvent(event, tracker)).isFailure() && tracker != null) {
+                // 어느 탭에도 넣지 못함
+                for (int i = 0; i < subscribers; i++) {
+                    tracker.lost();
+                }
+            }
+        }
+    }
+
+    // 이 파드에 reactive 스트림이 열려 있는 유저 (하트비트의 시퀀스 만료 갱신용)
+    public Set<Long> connectedUserIds() {
+        return sinksByUser.keySet();
+    }
+
+    public void broadcast(String eventName, Object data) {
+        for (Long userId : sinksByUser.keySet()) {
+            sendToUser(userId, null, eventName, data);
+        }
+    }
+
+    private List<ServerSentEvent<Object>> toEvents(NotificationStreamReplayBuffer.Replay replay) {
+        List<ServerSentEvent<Object>> events = new ArrayList<>();
+        if (replay.gap()) {
+            events.add(toEvent(null, NotificationStreamReplayBuffer.RESYNC_EVENT, "resync"));
+        }
+        for (NotificationStreamMessage message : replay.messages()) {
+            events.add(toEvent(message.id(), message.eventName(), message.data()));
+        }
+        return events;
+    }
+
+    private ServerSentEvent<Object> toEvent(Long eventId, String eventName, Object data) {
+        ServerSentEvent.Builder<Object> builder = ServerSentEvent.builder(data).event(eventName);
+        if (eventId != null) {
+            builder.id(String.valueOf(eventId));
+        }
+        return builder.build();
+    }
+
+    private boolean isNewer(String id, AtomicLong lastSentId) {
+        long value = parseOrZero(id);
+        return lastSentId.getAndAccumulate(value, Math::max) < value;
+    }
+
+    private long parseOrZero(String id) {
+        try {
+            return Long.parseLong(id.trim());
+        } catch (NumberFormatException e) {
+            return 0L;
+        }
+    }
+
+    private UserSink attach(Long userId) {
+        return sinksByUser.compute(userId, (k, current) -> {
+            UserSink userSink = current != null ? current : new UserSink();
+            userSink.subscribers++;
+            return userSink;
+        });
+    }
+
+    // 마지막 구독자가 떠날 때만 지운다. 같은 compute 안에서 세므로 attach 와 엇갈리지 않는다
+    private void detach(Long userId, UserSink userSink) {
+        sinksByUser.computeIfPresent(userId, (k, current) -> {
+            if (current != userSink) {
+                return current;
+            }
+            return --current.subscribers > 0 ? current : null;
+        });
+    }
+
+    // 테스트/진단용: 실제로 sink 를 구독 중인 수
+    int subscriberCount(Long userId) {
+        UserSink userSink = sinksByUser.get(userId);
+        return userSink == null ? 0 : userSink.sink.currentSubscriberCount();
+    }
+
+    // sink 로 흘려보내는 이벤트 (모든 탭이 공유)
+    private record LiveEvent(ServerSentEvent<Object> event, NotificationDeliveryRecorder.Tracker tracker) {}
+
+    // 탭(구독자)별 전달 단위. 같은 알림이라도 탭마다 따로 만들어 pushed/lost 를 탭당 한 번만 센다
+    private static final class Delivery {
+        private final ServerSentEvent<Object> event;
+        private final NotificationDeliveryRecorder.Tracker tracker;
+        private final AtomicBoolean settled = new AtomicBoolean();
+
+        private Delivery(ServerSentEvent<Object> event) {
+            this(event, null);
+        }
+
+        private Delivery(ServerSentEvent<Object> event, NotificationDeliveryRecorder.Tracker tracker) {
+            this.event = event;
+            this.tracker = tracker;
+        }
+
+        private static Delivery of(LiveEvent live) {
+            return new Delivery(live.event(), live.tracker());
+        }
+
+        private void pushed() {
+            if (tracker != null && settled.compareAndSet(false, true)) {
+                tracker.pushed(System.currentTimeMillis());
+            }
+        }
+
+        private void lost() {
+            if (tracker != null && settled.compareAndSet(false, true)) {
+                tracker.lost();
+            }
+        }
+    }
+
+    private static final class UserSink {
+        private final Sinks.Many<LiveEvent> sink = Sinks.many().multicast().directBestEffort();
+        // sinksByUser.compute 안에서만 바뀐다
+        private int subscribers;
+    }
+}
@@ -1,5 +1,11 @@
 package com.cherry.cherrybookerbe.notification.query.sse;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
@@ -10,44 +16,124 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 
 // SSE Emitter 레지스트리
+// sendToUser 는 연결별 큐에 넣기만 하고, 실제 소켓 write 는 전용 가상 스레드 executor 에서 처리한다.
+// (느린 클라이언트 하나가 발행 스레드 = 요청 스레드를 붙잡지 않도록)
+@Slf4j
 @Component
 public class NotificationSseEmitters {
 
 
     private static final long TIMEOUT_MS = 60L * 60 * 1000; // 1시간
-    private final Map<Long, Set<SseEmitter>> emittersByUser = new ConcurrentHashMap<>();
+    private final Map<Long, Set<SseConnection>> emittersByUser = new ConcurrentHashMap<>();
+
+    private final NotificationStreamReplayBuffer replayBuffer;
+    private final NotificationDeliveryRecorder deliveryRecorder;
+    private final ExecutorService dispatchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int queueCapacity;
+    private final Counter droppedCounter;
+    private final Counter coalescedCounter;
+    private final Counter staleEvictedCounter;
+    private final Counter idleEvictedCounter;
+
+    public NotificationSseEmitters(MeterRegistry meterRegistry,
+                                   NotificationStreamReplayBuffer replayBuffer,
+                                   NotificationDeliveryRecorder deliveryRecorder,
+                                   @Value("${notification.sse.dispatch.queue-capacity:100}") int queueCapacity) {
+        this.replayBuffer = replayBuffer;
+        this.deliveryRecorder = deliveryRecorder;
+        this.queueCapacity = queueCapacity;
+        this.droppedCounter = Counter.builder("notification.sse.events.dropped")
+                .description("연결별 전송 큐가 가득 차 버려진 SSE 이벤트 수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("notification.sse.events.coalesced")
+                .description("대기 중인 같은 이벤트에 합쳐진 SSE 이벤트 수 (UNREAD_COUNT, PING)")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.queue.depth", this, NotificationSseEmitters::totalQueueDepth)
+                .description("전송 대기 중인 SSE 이벤트 수 (전체 연결 합계)")
+                .register(meterRegistry);
+        Gauge.builder("notification.sse.connections", this, NotificationSseEmitters::connectionCount)
+                .description("이 파드에 연결된 SSE 스트림 수")
+                .register(meterRegistry);
+        this.staleEvictedCounter = Counter.builder("notification.sse.connections.evicted")
+                .tag("reason", "stale")
+                .description("write 가 멈춘(끊긴) 연결을 정리한 횟수")
+                .register(meterRegistry);
+        this.idleEvictedCounter = Counter.builder("notification.sse.connections.evicted")
+                .tag("reason", "idle")
+                .description("실제 이벤트 없이 오래 열려 있던 연결을 정리한 횟수")
+                .register(meterRegistry);
+    }
 
 
     public SseEmitter add(Long userId) {
-        SseEmitter emitter = new SseEmitter(TIMEOUT_MS);
-        emittersByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(emitter);
+        return add(userId, null);
+    }
 
 
-        emitter.onCompletion(() -> remove(userId, emitter));
-        emitter.onTimeout(() -> remove(userId, emitter));
-        emitter.onError(e -> remove(userId, emitter));
+    // lastEventId: 재연결 시 클라이언트가 보낸 Last-Event-ID (없으면 null)
+    public SseEmitter add(Long userId, String lastEventId) {
+        // 이 유저의 이벤트부터 리플레이 버퍼에 남기기 시작
+        replayBuffer.open(userId);
+        SseEmitter emitter = newEmitter();
+        boolean replay = lastEventId != null && !lastEventId.isBlank();
+        // 리플레이가 있으면 먼저 등록만 해두고(라이브 이벤트는 큐에 보류) 리플레이를 앞에 끼운 뒤 전송 시작
+        SseConnection connection = new SseConnection(userId, emitter, queueCapacity, replay);
+        emittersByUser.computeIfAbsent(userId, k -> ConcurrentHashMap.newKeySet()).add(connection);
+
+
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> remove(connection));
+        emitter.onError(e -> remove(connection));
 
 
         try {
             emitter.send(SseEmitter.event().name("INIT").data("ok", MediaType.TEXT_PLAIN));
+            connection.markWritten("INIT", System.currentTimeMillis());
         } catch (IOException ignored) {}
+
+        if (replay) {
+            resume(connection, replayBuffer.replay(userId, lastEventId));
+        }
         return emitter;
     }
 
 
+    // 테스트에서 write 가 멈춘 emitter 로 바꿔 끼울 수 있도록 분리
+    SseEmitter newEmitter() {
+        return new SseEmitter(TIMEOUT_MS);
+    }
+
+
     public void sendToUser(Long userId, String eventName, Object data) {
-        Set<SseEmitter> set = emittersByUser.getOrDefault(userId, Set.of());
-        List<SseEmitter> dead = new ArrayList<>();
-        for (SseEmitter em : set) {
-            try { em.send(SseEmitter.event().name(eventName).data(data)); }
-            catch (Exception e) { dead.add(em); }
+        sendToUser(userId, null, eventName, data);
+    }
+
+
+    public void sendToUser(Long userId, Long eventId, String eventName, Object data) {
+        Set<SseConnection> set = emittersByUser.getOrDefault(userId, Set.of());
+        if (set.isEmpty()) {
+            return;
+        }
+
+        // 이 파드에 연결이 없으면 추적하지 않음 (오프라인 수 = 저장 수 - pushed - dropped)
+        NotificationDeliveryRecorder.Tracker tracker =
+                "NOTIFICATION".equals(eventName) ? deliveryRecorder.track(data, set.size()) : null;
+        for (SseConnection connection : set) {
+            enqueue(connection, eventId, eventName, data, tracker);
         }
-        dead.forEach(em -> remove(userId, em));
     }
 
 
+    // 이 파드에 SSE 연결이 열려 있는 유저 (하트비트의 시퀀스 만료 갱신용)
+    public Set<Long> connectedUserIds() {
+        return emittersByUser.keySet();
+    }
+
     public void broadcast(String eventName, Object data) {
         for (Long userId : emittersByUser.keySet()) {
             sendToUser(userId, eventName, data);
@@ -55,11 +141,148 @@ public class NotificationSseEmitters {
     }
 
 
-    private void remove(Long userId, SseEmitter emitter) {
-        Set<SseEmitter> set = emittersByUser.get(userId);
+    /**
+     * 모든 연결에 PING 을 넣는다. 연결별 큐에서 합쳐지므로 밀려 있는 연결에는 PING 이 쌓이지 않는다.
+     *
+     * @return PING 을 넣은 연결 수
+     */
+    public int sendHeartbeat() {
+        int count = 0;
+        for (Set<SseConnection> set : emittersByUser.values()) {
+            for (SseConnection connection : set) {
+                connection.pingEnqueued();
+                enqueue(connection, null, "PING", "ping");
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 마지막 write 성공 이후 PING 이 maxUnwrittenPings 번 넘게 쌓인 연결(끊긴 소켓)과
+     * idleBefore 이후로 PING 외 이벤트가 없던 연결(프록시 뒤 유휴 연결)을 닫는다.
+     *
+     * @return 정리한 연결 수
+     */
+    public int evictInactive(int maxUnwrittenPings, long idleBefore) {
+        List<SseConnection> stale = new ArrayList<>();
+        List<SseConnection> idle = new ArrayList<>();
+
+        for (Set<SseConnection> set : emittersByUser.values()) {
+            for (SseConnection connection : set) {
+                if (connection.unwrittenPings() > maxUnwrittenPings) {
+                    stale.add(connection);
+                } else if (connection.lastEventAt() < idleBefore) {
+                    idle.add(connection);
+                }
+            }
+        }
+
+        stale.forEach(this::close);
+        idle.forEach(this::close);
+        staleEvictedCounter.increment(stale.size());
+        idleEvictedCounter.increment(idle.size());
+        return stale.size() + idle.size();
+    }
+
+    private void close(SseConnection connection) {
+        remove(connection);
+        try {
+            // 클라이언트(EventSource)는 스스로 재연결한다
+            connection.emitter().complete();
+        } catch (Exception ignored) {}
+    }
+
+    private void resume(SseConnection connection, NotificationStreamReplayBuffer.Replay replay) {
+        List<SseConnection.PendingEvent> events = new ArrayList<>();
+        if (replay.gap()) {
+            events.add(new SseConnection.PendingEvent(null, NotificationStreamReplayBuffer.RESYNC_EVENT, "resync"));
+        }
+        for (NotificationStreamMessage message : replay.messages()) {
+            events.add(new SseConnection.PendingEvent(message.id(), message.eventName(), message.data()));
+        }
+
+        if (connection.resume(events)) {
+            scheduleDrain(connection);
+        }
+    }
+
+    private void enqueue(SseConnection connection, Long eventId, String eventName, Object data) {
+        enqueue(connection, eventId, eventName, data, null);
+    }
+
+    private void enqueue(SseConnection connection,
+                         Long eventId,
+                         String eventName,
+                         Object data,
+                         NotificationDeliveryRecorder.Tracker tracker) {
+        switch (connection.offer(eventId, eventName, data, tracker)) {
+            case SCHEDULE_DRAIN -> scheduleDrain(connection);
+            case DROPPED_OLDEST -> droppedCounter.increment();
+            case COALESCED -> coalescedCounter.increment();
+            default -> { }
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        try {
+            dispatchExecutor.execute(() -> drain(connection));
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            remove(connection);
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        SseConnection.PendingEvent event;
+        while ((event = connection.poll()) != null) {
+            try {
+                SseEmitter.SseEventBuilder builder = SseEmitter.event().name(event.name()).data(event.data());
+                if (event.id() != null) {
+                    builder.id(String.valueOf(event.id()));
+                }
+                connection.emitter().send(builder);
+                long now = System.currentTimeMillis();
+                connection.markWritten(event.name(), now);
+                event.pushed(now);
+            } catch (Exception e) {
+                event.lost();
+                remove(connection);
+                return;
+            }
+        }
+    }
+
+    private double connectionCount() {
+        long count = 0;
+        for (Set<SseConnection> set : emittersByUser.values()) {
+            count += set.size();
+        }
+        return count;
+    }
+
+    private double totalQueueDepth() {
+        long depth = 0;
+        for (Set<SseConnection> set : emittersByUser.values()) {
+            for (SseConnection connection : set) {
+                depth += connection.depth();
+            }
+        }
+        return depth;
+    }
+
+
+    private void remove(SseConnection connection) {
+        connection.close();
+        Set<SseConnection> set = emittersByUser.get(connection.userId());
         if (set != null) {
-            set.remove(emitter);
-            if (set.isEmpty()) emittersByUser.remove(userId);
+            set.remove(connection);
+            if (set.isEmpty()) emittersByUser.remove(connection.userId());
         }
     }
+
+    @PreDestroy
+    void shutdown() {
+        dispatchExecutor.shutdownNow();
+    }
 }
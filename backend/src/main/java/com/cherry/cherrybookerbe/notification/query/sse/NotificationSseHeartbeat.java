@@ -0,0 +1,52 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+// SSE 하트비트(PING) + 끊긴/유휴 연결 정리 + 연결된 유저의 리플레이 시퀀스 만료 갱신
+@Slf4j
+@Component
+public class NotificationSseHeartbeat {
+
+    // 이만큼의 PING 이 연속으로 나가지 못했으면 끊긴 연결로 본다
+    static final int MAX_UNWRITTEN_PINGS = 3;
+
+    private final NotificationSseEmitters emitters;
+    private final NotificationReactiveStreams reactiveStreams;
+    private final NotificationStreamReplayBuffer replayBuffer;
+    private final long idleTimeoutMs;
+
+    public NotificationSseHeartbeat(NotificationSseEmitters emitters,
+                                    NotificationReactiveStreams reactiveStreams,
+                                    NotificationStreamReplayBuffer replayBuffer,
+                                    @Value("${notification.sse.idle-timeout-ms:1800000}") long idleTimeoutMs) {
+        this.emitters = emitters;
+        this.reactiveStreams = reactiveStreams;
+        this.replayBuffer = replayBuffer;
+        this.idleTimeoutMs = idleTimeoutMs;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+
+        // PING 을 먼저 넣고, 끊김은 경과 시간이 아니라 나가지 못한 PING 수로 판단한다
+        // (스케줄러가 다른 작업에 밀려 늦게 돌아도 정상 유휴 연결을 한꺼번에 끊지 않음)
+        int pinged = emitters.sendHeartbeat();
+        int evicted = emitters.evictInactive(MAX_UNWRITTEN_PINGS, now - idleTimeoutMs);
+
+        // 연결이 살아 있는 동안 시퀀스 키가 만료되지 않게 (만료되면 이후 이벤트가 id 없이 나가 리플레이가 안 됨)
+        Set<Long> connected = new HashSet<>(emitters.connectedUserIds());
+        connected.addAll(reactiveStreams.connectedUserIds());
+        replayBuffer.touch(connected);
+
+        if (evicted > 0) {
+            log.info("[SSE] heartbeat. pinged={}, evicted={}", pinged, evicted);
+        }
+    }
+}
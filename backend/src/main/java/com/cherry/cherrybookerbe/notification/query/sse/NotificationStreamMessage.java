@@ -0,0 +1,40 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+// 파드 간 Redis 채널로 주고받는 SSE 이벤트 봉투
+// id: 유저별 증가 시퀀스 (SSE id / Last-Event-ID 리플레이 기준). 발급 실패 시 null
+public record NotificationStreamMessage(
+        Long id,
+        Long userId,
+        String eventName,
+        JsonNode data
+) {
+
+    /**
+     * 채널 메시지 하나를 봉투 목록으로 푼다. 단건 발행은 객체, 전체 발송 청크는 배열로 온다.
+     * 유저 대상 봉투는 localUser 를 통과한 것만 변환한다 (이 파드에 연결이 없는 유저는 역직렬화하지 않음).
+     */
+    public static List<NotificationStreamMessage> readAll(ObjectMapper objectMapper,
+                                                          String json,
+                                                          Predicate<Long> localUser) throws IOException {
+        JsonNode root = objectMapper.readTree(json);
+        Iterable<JsonNode> nodes = root.isArray() ? root : List.of(root);
+
+        List<NotificationStreamMessage> messages = new ArrayList<>();
+        for (JsonNode node : nodes) {
+            JsonNode userId = node.path("userId");
+            if (userId.isNumber() && !localUser.test(userId.longValue())) {
+                continue;
+            }
+            messages.add(objectMapper.treeToValue(node, NotificationStreamMessage.class));
+        }
+        return messages;
+    }
+}
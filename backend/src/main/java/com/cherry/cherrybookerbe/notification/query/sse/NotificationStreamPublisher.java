@@ -0,0 +1,137 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// SSE 이벤트를 Redis 채널로 발행 → 모든 파드가 받아서 자기 파드에 붙은 연결에만 전달
+// 발행 전에 유저별 이벤트 id 를 붙이고 리플레이 버퍼에 남긴다 (Last-Event-ID 재연결용)
+@Slf4j
+@Component
+public class NotificationStreamPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationSseEmitters emitters;
+    private final NotificationReactiveStreams reactiveStreams;
+    private final NotificationStreamReplayBuffer replayBuffer;
+    private final String channel;
+    private final boolean redisFanoutEnabled;
+
+    public NotificationStreamPublisher(RedisTemplate<String, String> redisTemplate,
+                                       ObjectMapper objectMapper,
+                                       NotificationSseEmitters emitters,
+                                       NotificationReactiveStreams reactiveStreams,
+                                       NotificationStreamReplayBuffer replayBuffer,
+                                       @Value("${notification.sse.redis-channel:notification:stream}") String channel,
+                                       @Value("${notification.sse.redis-fanout-enabled:true}") boolean redisFanoutEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.emitters = emitters;
+        this.reactiveStreams = reactiveStreams;
+        this.replayBuffer = replayBuffer;
+        this.channel = channel;
+        this.redisFanoutEnabled = redisFanoutEnabled;
+    }
+
+    public void publish(Long userId, String eventName, Object data) {
+        JsonNode payload = objectMapper.valueToTree(data);
+
+        NotificationStreamMessage message;
+        try {
+            message = replayBuffer.append(userId, eventName, payload);
+        } catch (Exception e) {
+            // id 없이도 라이브 전달은 한다 (재연결 시에는 RESYNC 로 보정됨)
+            log.warn("[SSE] replay buffer append failed. userId={}, event={}", userId, eventName, e);
+            message = new NotificationStreamMessage(null, userId, eventName, payload);
+        }
+
+        if (!redisFanoutEnabled) {
+            deliverLocally(message);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // Redis 장애 시 최소한 이 파드에 연결된 스트림에는 전달
+            log.warn("[SSE] redis publish failed. deliver locally only. userId={}, event={}", userId, eventName, e);
+            deliverLocally(message);
+        }
+    }
+
+    /**
+     * 여러 유저에게 한 번에 보낸다 (전체 발송 청크용).
+     * 리플레이 기록은 파이프라인 한 번, 채널 발행은 봉투 배열 메시지 한 번 → 유저 수와 무관하게 왕복 두 번.
+     */
+    public void publishAll(String eventName, Map<Long, ?> dataByUser) {
+        if (dataByUser.isEmpty()) {
+            return;
+        }
+        Map<Long, JsonNode> payloads = new LinkedHashMap<>();
+        dataByUser.forEach((userId, data) -> payloads.put(userId, objectMapper.valueToTree(data)));
+
+        List<NotificationStreamMessage> messages;
+        try {
+            messages = replayBuffer.appendAll(eventName, payloads);
+        } catch (Exception e) {
+            log.warn("[SSE] replay buffer append failed. users={}, event={}", payloads.size(), eventName, e);
+            messages = new ArrayList<>(payloads.size());
+            for (Map.Entry<Long, JsonNode> entry : payloads.entrySet()) {
+                messages.add(new NotificationStreamMessage(null, entry.getKey(), eventName, entry.getValue()));
+            }
+        }
+
+        if (!redisFanoutEnabled) {
+            messages.forEach(this::deliverLocally);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(messages));
+        } catch (Exception e) {
+            log.warn("[SSE] redis publish failed. deliver locally only. users={}, event={}",
+                    messages.size(), eventName, e);
+            messages.forEach(this::deliverLocally);
+        }
+    }
+
+    /**
+     * 모든 파드의 모든 연결에 보낸다 (userId = null 인 메시지).
+     * 유저별 id/리플레이 버퍼가 없으므로, 놓친 클라이언트는 재연결 후 목록 조회로 보정한다.
+     */
+    public void publishToAll(String eventName, Object data) {
+        NotificationStreamMessage message =
+                new NotificationStreamMessage(null, null, eventName, objectMapper.valueToTree(data));
+
+        if (!redisFanoutEnabled) {
+            deliverLocally(message);
+            return;
+        }
+
+        try {
+            redisTemplate.convertAndSend(channel, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            log.warn("[SSE] redis publish failed. deliver locally only. broadcast event={}", eventName, e);
+            deliverLocally(message);
+        }
+    }
+
+    private void deliverLocally(NotificationStreamMessage message) {
+        if (message.userId() == null) {
+            emitters.broadcast(message.eventName(), message.data());
+            reactiveStreams.broadcast(message.eventName(), message.data());
+            return;
+        }
+        emitters.sendToUser(message.userId(), message.id(), message.eventName(), message.data());
+        reactiveStreams.sendToUser(message.userId(), message.id(), message.eventName(), message.data());
+    }
+}
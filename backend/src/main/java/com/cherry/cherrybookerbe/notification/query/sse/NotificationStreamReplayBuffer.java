@@ -0,0 +1,203 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 유저별 SSE 이벤트 링 버퍼 (Redis list). 재연결 시 Last-Event-ID 이후 이벤트를 다시 보내기 위함
+// 버퍼는 한 번이라도 스트림을 연 유저(시퀀스 키가 있는 유저)만 만든다. 항목 형식: "<id>:<id 없는 메시지 JSON>"
+@Slf4j
+@Component
+public class NotificationStreamReplayBuffer {
+
+    private static final String SEQ_KEY = "notification:stream:seq:";
+    private static final String BUFFER_KEY = "notification:stream:buf:";
+
+    // 재연결 시 유실 구간을 다 채우지 못했을 때 보내는 이벤트 → 클라이언트가 목록/카운트를 다시 조회
+    public static final String RESYNC_EVENT = "RESYNC";
+
+    // afterId: 리플레이가 이어 붙인 기준 id. 보통 Last-Event-ID 그대로, 시퀀스가 다시 시작됐으면 0
+    public record Replay(List<NotificationStreamMessage> messages, boolean gap, long afterId) {}
+
+    private static final byte[] INITIAL_SEQ = "0".getBytes(StandardCharsets.UTF_8);
+
+    // 시퀀스 발급 + 저장 + 자르기 + 만료를 한 번의 왕복으로. 시퀀스 키가 없으면(연결한 적 없음) 아무것도 하지 않고 nil
+    private static final RedisScript<Long> APPEND_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+                return nil
+            end
+            local id = redis.call('INCR', KEYS[1])
+            redis.call('LPUSH', KEYS[2], id .. ':' .. ARGV[1])
+            redis.call('LTRIM', KEYS[2], 0, tonumber(ARGV[2]) - 1)
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            return id
+            """, Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final int capacity;
+    private final Duration ttl;
+
+    public NotificationStreamReplayBuffer(RedisTemplate<String, String> redisTemplate,
+                                          ObjectMapper objectMapper,
+                                          @Value("${notification.sse.replay.capacity:50}") int capacity,
+                                          @Value("${notification.sse.replay.ttl-minutes:60}") long ttlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.capacity = Math.max(capacity, 1);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    /**
+     * 스트림 연결 시 호출. 시퀀스 키가 없으면 만들어 이후 이벤트부터 버퍼에 남게 하고, 있으면 만료만 늘린다.
+     */
+    public void open(Long userId) {
+        try {
+            String seqKey = SEQ_KEY + userId;
+            Boolean created = redisTemplate.opsForValue().setIfAbsent(seqKey, "0", ttl);
+            if (!Boolean.TRUE.equals(created)) {
+                redisTemplate.expire(seqKey, ttl);
+            }
+        } catch (Exception e) {
+            // 버퍼가 없으면 재연결 시 RESYNC 로 보정된다
+            log.warn("[SSE] replay buffer open failed. userId={}", userId, e);
+        }
+    }
+
+    /**
+     * 연결이 살아 있는 유저들의 시퀀스 키 만료를 늘린다 (하트비트에서 호출, 파이프라인 한 번).
+     * 오래 유휴 상태인 연결에서 키가 만료되면 이후 이벤트가 버퍼에 남지 않으므로 만료 전에 계속 갱신하고,
+     * Redis 재시작 등으로 이미 사라졌으면 다시 만든다 (재연결 시 replay 가 리셋으로 판단).
+     */
+    public void touch(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        try {
+            Expiration expiration = Expiration.from(ttl);
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (Long userId : userIds) {
+                    byte[] key = (SEQ_KEY + userId).getBytes(StandardCharsets.UTF_8);
+                    connection.stringCommands().set(key, INITIAL_SEQ, expiration, SetOption.ifAbsent());
+                    connection.keyCommands().expire(key, ttl.toSeconds());
+                }
+                return null;
+            });
+        } catch (Exception e) {
+            log.warn("[SSE] replay sequence touch failed. users={}", userIds.size(), e);
+        }
+    }
+
+    /**
+     * 유저 시퀀스로 id 를 발급하고 버퍼에 저장한다 (최근 capacity 개만 유지).
+     * 스트림을 연 적 없는 유저면 저장하지 않고 id 없는 메시지를 돌려준다.
+     */
+    public NotificationStreamMessage append(Long userId, String eventName, JsonNode data) throws Exception {
+        String payload = objectMapper.writeValueAsString(new NotificationStreamMessage(null, userId, eventName, data));
+        Long id = redisTemplate.execute(
+                APPEND_SCRIPT,
+                List.of(SEQ_KEY + userId, BUFFER_KEY + userId),
+                payload,
+                String.valueOf(capacity),
+                String.valueOf(ttl.toSeconds())
+        );
+        return new NotificationStreamMessage(id, userId, eventName, data);
+    }
+
+    /**
+     * append 를 여러 유저에 대해 한 번의 파이프라인으로 (전체 발송 청크용). 결과는 dataByUser 순서와 같다.
+     */
+    public List<NotificationStreamMessage> appendAll(String eventName, Map<Long, JsonNode> dataByUser) throws Exception {
+        List<Long> userIds = new ArrayList<>(dataByUser.keySet());
+        List<byte[]> payloads = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            payloads.add(objectMapper.writeValueAsBytes(
+                    new NotificationStreamMessage(null, userId, eventName, dataByUser.get(userId))));
+        }
+
+        byte[] script = APPEND_SCRIPT.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+        byte[] capacityArg = String.valueOf(capacity).getBytes(StandardCharsets.UTF_8);
+        byte[] ttlArg = String.valueOf(ttl.toSeconds()).getBytes(StandardCharsets.UTF_8);
+        List<Object> ids = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < userIds.size(); i++) {
+                Long userId = userIds.get(i);
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        (SEQ_KEY + userId).getBytes(StandardCharsets.UTF_8),
+                        (BUFFER_KEY + userId).getBytes(StandardCharsets.UTF_8),
+                        payloads.get(i), capacityArg, ttlArg);
+            }
+            return null;
+        });
+
+        List<NotificationStreamMessage> messages = new ArrayList<>(userIds.size());
+        for (int i = 0; i < userIds.size(); i++) {
+            Long userId = userIds.get(i);
+            // 스트림을 연 적 없는 유저는 nil → id 없는 메시지
+            Long id = i < ids.size() && ids.get(i) instanceof Long seq ? seq : null;
+            messages.add(new NotificationStreamMessage(id, userId, eventName, dataByUser.get(userId)));
+        }
+        return messages;
+    }
+
+    /**
+     * lastEventId 이후 이벤트를 오래된 순으로 돌려준다.
+     * 버퍼가 이미 밀려나 빠진 구간이 있거나 id 를 해석할 수 없으면 gap = true.
+     * 현재 시퀀스가 lastEventId 보다 작으면 시퀀스가 만료/유실 후 다시 시작된 것이므로
+     * 새 시퀀스의 처음(0)부터 남아 있는 이벤트를 돌려주고 gap = true.
+     */
+    public Replay replay(Long userId, String lastEventId) {
+        long lastId;
+        try {
+            lastId = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return new Replay(List.of(), true, 0L);
+        }
+
+        try {
+            String seq = redisTemplate.opsForValue().get(SEQ_KEY + userId);
+            long currentId = seq == null ? 0L : Long.parseLong(seq);
+            boolean reset = currentId < lastId;
+            long afterId = reset ? 0L : lastId;
+            if (currentId == afterId) {
+                return new Replay(List.of(), reset, afterId);
+            }
+
+            List<String> raw = redisTemplate.opsForList().range(BUFFER_KEY + userId, 0, -1);
+            List<NotificationStreamMessage> messages = new ArrayList<>();
+            for (String entry : raw == null ? List.<String>of() : raw) {
+                int sep = entry.indexOf(':');
+                long id = Long.parseLong(entry.substring(0, sep));
+                if (id > afterId) {
+                    NotificationStreamMessage message =
+                            objectMapper.readValue(entry.substring(sep + 1), NotificationStreamMessage.class);
+                    messages.add(new NotificationStreamMessage(id, message.userId(), message.eventName(), message.data()));
+                }
+            }
+            Collections.reverse(messages); // leftPush → 최신이 앞
+
+            boolean gap = reset || messages.size() < currentId - afterId;
+            return new Replay(messages, gap, afterId);
+        } catch (Exception e) {
+            log.warn("[SSE] replay failed. userId={}, lastEventId={}", userId, lastEventId, e);
+            return new Replay(List.of(), true, lastId);
+        }
+    }
+}
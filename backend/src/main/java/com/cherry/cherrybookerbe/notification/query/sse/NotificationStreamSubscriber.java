@@ -0,0 +1,70 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.service.NotificationNoticeInbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+// Redis 채널 구독 → 이 파드에 연결된 emitter 에만 전달 (청크 단위 배열 메시지도 받음)
+@Slf4j
+@Component
+public class NotificationStreamSubscriber implements MessageListener {
+
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final NotificationSseEmitters emitters;
+    private final NotificationNoticeInbox noticeInbox;
+    private final String channel;
+    private final boolean redisFanoutEnabled;
+
+    public NotificationStreamSubscriber(RedisMessageListenerContainer listenerContainer,
+                                        ObjectMapper objectMapper,
+                                        NotificationSseEmitters emitters,
+                                        NotificationNoticeInbox noticeInbox,
+                                        @Value("${notification.sse.redis-channel:notification:stream}") String channel,
+                                        @Value("${notification.sse.redis-fanout-enabled:true}") boolean redisFanoutEnabled) {
+        this.listenerContainer = listenerContainer;
+        this.objectMapper = objectMapper;
+        this.emitters = emitters;
+        this.noticeInbox = noticeInbox;
+        this.channel = channel;
+        this.redisFanoutEnabled = redisFanoutEnabled;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        if (redisFanoutEnabled) {
+            listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            List<NotificationStreamMessage> messages = NotificationStreamMessage.readAll(objectMapper,
+                    new String(message.getBody(), StandardCharsets.UTF_8), emitters.connectedUserIds()::contains);
+            for (NotificationStreamMessage msg : messages) {
+                if (msg.userId() == null) {
+                    // 다른 파드에서 등록된 공지: 이 파드의 최신 공지 id 도 올려 둔다
+                    if ("NOTICE".equals(msg.eventName()) && msg.data().path("noticeId").canConvertToInt()) {
+                        noticeInbox.noticePublished(msg.data().path("noticeId").intValue());
+                    }
+                    emitters.broadcast(msg.eventName(), msg.data());
+                } else {
+                    emitters.sendToUser(msg.userId(), msg.id(), msg.eventName(), msg.data());
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[SSE] invalid stream message on channel {}", channel, e);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.service.NotificationUnreadCounterService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 유저별 UNREAD_COUNT 디바운서: 창(window) 안에 들어온 미읽음 변경을 모아 마지막 값 하나만 발행한다
+// 창 안에 변경이 하나뿐이면 이벤트 값을 그대로 쓰고, 여러 개면 발행 시점에 카운터를 한 번 읽는다 (도착 순서 역전 대비)
+@Slf4j
+@Component
+public class NotificationUnreadCountDebouncer {
+
+    private static final String EVENT_NAME = "UNREAD_COUNT";
+
+    private final Map<Integer, Pending> pendingByUser = new ConcurrentHashMap<>();
+
+    private final NotificationStreamPublisher publisher;
+    private final NotificationUnreadCounterService unreadCounter;
+    private final long windowMs;
+    private final ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor();
+    // 발행은 DB/Redis I/O 라 타이머 스레드를 붙잡지 않도록 가상 스레드에서
+    private final ExecutorService flushExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Counter mergedCounter;
+
+    public NotificationUnreadCountDebouncer(NotificationStreamPublisher publisher,
+                                            NotificationUnreadCounterService unreadCounter,
+                                            MeterRegistry meterRegistry,
+                                            @Value("${notification.sse.unread-count.debounce-ms:300}") long windowMs) {
+        this.publisher = publisher;
+        this.unreadCounter = unreadCounter;
+        this.windowMs = windowMs;
+        this.mergedCounter = Counter.builder("notification.sse.unread.count.merged")
+                .description("디바운스 창 안에서 합쳐져 따로 발행되지 않은 UNREAD_COUNT 수")
+                .register(meterRegistry);
+    }
+
+    // 미읽음 수가 unreadCount 로 바뀌었음 (읽음/삭제/모두 읽음)
+    public void request(Integer userId, long unreadCount) {
+        if (windowMs <= 0) {
+            publisher.publish(userId.longValue(), EVENT_NAME, unreadCount);
+            return;
+        }
+
+        boolean[] opened = {false};
+        pendingByUser.compute(userId, (k, pending) -> {
+            if (pending == null) {
+                opened[0] = true;
+                return new Pending(unreadCount);
+            }
+            pending.merge(unreadCount);
+            return pending;
+        });
+
+        if (opened[0]) {
+            schedule(userId);
+        } else {
+            mergedCounter.increment();
+        }
+    }
+
+    // 창이 열려 있는 동안 다른 경로(NOTIFICATION)로 미읽음이 바뀌면 이벤트 값을 믿지 말고 다시 읽게 한다
+    public void invalidate(Integer userId) {
+        pendingByUser.computeIfPresent(userId, (k, pending) -> {
+            pending.events++;
+            return pending;
+        });
+    }
+
+    private void schedule(Integer userId) {
+        try {
+            timer.schedule(() -> flushAsync(userId), windowMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            pendingByUser.remove(userId);
+        }
+    }
+
+    private void flushAsync(Integer userId) {
+        try {
+            flushExecutor.execute(() -> flush(userId));
+        } catch (RejectedExecutionException e) {
+            pendingByUser.remove(userId);
+        }
+    }
+
+    void flush(Integer userId) {
+        // 먼저 창을 닫아야 조회 중에 들어온 변경이 새 창을 연다
+        Pending pending = pendingByUser.remove(userId);
+        if (pending == null) {
+            return;
+        }
+
+        try {
+            long unread = pending.events == 1 ? pending.latest : unreadCounter.get(userId);
+            publisher.publish(userId.longValue(), EVENT_NAME, unread);
+        } catch (Exception e) {
+            log.warn("[SSE] unread count flush failed. userId={}", userId, e);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        timer.shutdownNow();
+        flushExecutor.shutdown();
+    }
+
+    // compute 안에서만 바뀌고, remove 이후에만 읽는다
+    private static final class Pending {
+        private long latest;
+        private int events;
+
+        private Pending(long latest) {
+            this.latest = latest;
+            this.events = 1;
+        }
+
+        private void merge(long unreadCount) {
+            latest = unreadCount;
+            events++;
+        }
+    }
+}
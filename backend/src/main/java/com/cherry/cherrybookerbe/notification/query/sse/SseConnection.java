@@ -0,0 +1,226 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// SSE 연결 하나 = emitter + 전송 대기 큐.
+// 큐는 연결당 drain 작업 하나만 비우므로 같은 소켓에 동시에 write 하는 일이 없다.
+final class SseConnection {
+
+    // 최신 값만 의미 있는 이벤트 → 대기 중인 같은 이벤트가 있으면 값만 교체
+    private static final Set<String> COALESCED_EVENTS = Set.of("UNREAD_COUNT", "PING");
+
+    enum OfferResult {
+        SCHEDULE_DRAIN, // 큐가 비어 있었음 → 호출자가 drain 작업을 띄워야 함
+        QUEUED,
+        COALESCED,
+        DROPPED_OLDEST,
+        CLOSED
+    }
+
+    static final class PendingEvent {
+        private Long id;
+        private final String name;
+        private Object data;
+        // 배달 집계 대상(NOTIFICATION + 발송 로그)이면 non-null
+        private final NotificationDeliveryRecorder.Tracker tracker;
+
+        PendingEvent(Long id, String name, Object data) {
+            this(id, name, data, null);
+        }
+
+        PendingEvent(Long id, String name, Object data, NotificationDeliveryRecorder.Tracker tracker) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+            this.tracker = tracker;
+        }
+
+        Long id() {
+            return id;
+        }
+
+        String name() {
+            return name;
+        }
+
+        Object data() {
+            return data;
+        }
+
+        void pushed(long now) {
+            if (tracker != null) {
+                tracker.pushed(now);
+            }
+        }
+
+        void lost() {
+            if (tracker != null) {
+                tracker.lost();
+            }
+        }
+    }
+
+    private final Long userId;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final Deque<PendingEvent> queue = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+    // Last-Event-ID 리플레이를 앞에 끼워 넣기 전까지 drain 보류
+    private boolean paused;
+
+    // 마지막으로 소켓 write 에 성공한 시각 / PING 을 제외한 실제 이벤트를 보낸 시각
+    private volatile long lastWriteAt;
+    private volatile long lastEventAt;
+    // 마지막 write 성공 이후 넣은 PING 수. 스케줄러가 늦어져도 벽시계가 아니라 PING 횟수로 끊김을 판단
+    private final AtomicInteger unwrittenPings = new AtomicInteger();
+
+    SseConnection(Long userId, SseEmitter emitter, int capacity) {
+        this(userId, emitter, capacity, false);
+    }
+
+    SseConnection(Long userId, SseEmitter emitter, int capacity, boolean paused) {
+        this.userId = userId;
+        this.emitter = emitter;
+        this.capacity = Math.max(capacity, 1);
+        this.paused = paused;
+        this.lastWriteAt = System.currentTimeMillis();
+        this.lastEventAt = this.lastWriteAt;
+    }
+
+    Long userId() {
+        return userId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    long lastWriteAt() {
+        return lastWriteAt;
+    }
+
+    long lastEventAt() {
+        return lastEventAt;
+    }
+
+    int unwrittenPings() {
+        return unwrittenPings.get();
+    }
+
+    // PING 을 넣기 직전에 호출 (write 가 먼저 끝나도 0 으로 돌아가도록)
+    void pingEnqueued() {
+        unwrittenPings.incrementAndGet();
+    }
+
+    void markWritten(String eventName, long now) {
+        lastWriteAt = now;
+        unwrittenPings.set(0);
+        if (!"PING".equals(eventName)) {
+            lastEventAt = now;
+        }
+    }
+
+    synchronized OfferResult offer(String eventName, Object data) {
+        return offer(null, eventName, data);
+    }
+
+    synchronized OfferResult offer(Long id, String eventName, Object data) {
+        return offer(id, eventName, data, null);
+    }
+
+    synchronized OfferResult offer(Long id, String eventName, Object data, NotificationDeliveryRecorder.Tracker tracker) {
+        if (closed) {
+            if (tracker != null) {
+                tracker.lost();
+            }
+            return OfferResult.CLOSED;
+        }
+
+        if (COALESCED_EVENTS.contains(eventName)) {
+            for (PendingEvent pending : queue) {
+                if (pending.name.equals(eventName)) {
+                    pending.id = id;
+                    pending.data = data;
+                    return OfferResult.COALESCED;
+                }
+            }
+        }
+
+        OfferResult result = OfferResult.QUEUED;
+        if (queue.size() >= capacity) {
+            // 느린 소비자: 가장 오래된 이벤트를 버리고 최신 이벤트를 유지
+            queue.pollFirst().lost();
+            result = OfferResult.DROPPED_OLDEST;
+        }
+        queue.addLast(new PendingEvent(id, eventName, data, tracker));
+
+        if (!draining && !paused) {
+            draining = true;
+            return OfferResult.SCHEDULE_DRAIN;
+        }
+        return result;
+    }
+
+    /**
+     * 보류 중에 쌓인 라이브 이벤트 앞에 리플레이 이벤트를 끼워 넣고 drain 을 재개한다.
+     * 라이브로 이미 받은 id 이상인 리플레이 이벤트는 중복이므로 건너뛴다.
+     *
+     * @return 호출자가 drain 작업을 띄워야 하면 true
+     */
+    synchronized boolean resume(List<PendingEvent> replay) {
+        if (closed) {
+            return false;
+        }
+
+        long firstLiveId = Long.MAX_VALUE;
+        for (PendingEvent pending : queue) {
+            if (pending.id != null) {
+                firstLiveId = Math.min(firstLiveId, pending.id);
+            }
+        }
+        for (int i = replay.size() - 1; i >= 0; i--) {
+            PendingEvent event = replay.get(i);
+            if (event.id == null || event.id < firstLiveId) {
+                queue.addFirst(event);
+            }
+        }
+
+        paused = false;
+        if (!queue.isEmpty() && !draining) {
+            draining = true;
+            return true;
+        }
+        return false;
+    }
+
+    // 다음 전송할 이벤트. 큐가 비면 drain 종료 표시 후 null
+    synchronized PendingEvent poll() {
+        PendingEvent next = queue.pollFirst();
+        if (next == null) {
+            draining = false;
+        }
+        return next;
+    }
+
+    synchronized int depth() {
+        return queue.size();
+    }
+
+    synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        draining = false;
+        // 보내지 못한 이벤트는 배달 실패로 집계
+        queue.forEach(PendingEvent::lost);
+        queue.clear();
+    }
+}
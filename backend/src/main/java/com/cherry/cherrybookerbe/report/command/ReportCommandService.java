@@ -1,6 +1,7 @@
 package com.cherry.cherrybookerbe.report.command;
 
 import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import com.cherry.cherrybookerbe.community.command.service.CommunityThreadSummaryWriter;
 import com.cherry.cherrybookerbe.report.command.dto.CreateReportRequest;
 import com.cherry.cherrybookerbe.report.command.dto.ProcessReportRequest;
 import com.cherry.cherrybookerbe.report.domain.Report;
@@ -24,16 +25,19 @@ public class ReportCommandService {
 
     private final ReportCommandRepository reportCommandRepository;
     private final JdbcTemplate jdbcTemplate;
+    private final CommunityThreadSummaryWriter summaryWriter;
 
     @PersistenceContext
     private EntityManager em;
 
     public ReportCommandService(
             ReportCommandRepository reportCommandRepository,
-            JdbcTemplate jdbcTemplate)
+            JdbcTemplate jdbcTemplate,
+            CommunityThreadSummaryWriter summaryWriter)
     {
         this.reportCommandRepository = reportCommandRepository;
         this.jdbcTemplate = jdbcTemplate;
+        this.summaryWriter = summaryWriter;
     }
 
     // 신고자 조회
@@ -114,6 +118,7 @@ public class ReportCommandService {
                     "UPDATE threads SET report_count = report_count + 1 WHERE threads_id = ?",
                     threadId
         );
+        summaryWriter.threadReported(threadId.intValue());
 
 
     }
@@ -158,6 +163,10 @@ public class ReportCommandService {
         if(status == ReportStatus.VALID) {
             Integer reportedUserId = reportedThread.getUserId();
 
+            // 목록 읽기 모델 반영 (이미 삭제된 글이면 앞서 반영됨)
+            if (!reportedThread.isDeleted()) {
+                summaryWriter.threadDeleted(reportedThread);
+            }
 
                 // 삭제
             jdbcTemplate.update(
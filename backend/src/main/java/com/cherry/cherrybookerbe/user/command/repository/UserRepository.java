@@ -2,8 +2,10 @@ package com.cherry.cherrybookerbe.user.command.repository;
 
 import com.cherry.cherrybookerbe.user.command.domain.entity.User;
 import com.cherry.cherrybookerbe.user.command.domain.entity.UserRole;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +23,19 @@ public interface UserRepository extends JpaRepository<User,Integer> {
     @Query("select u.userId from User u")
     List<Integer> findAllUserIds();
 
+    // 전체 유저 id 를 userId 오름차순으로 청크 단위 조회 (keyset 페이징)
+    @Query("select u.userId from User u where u.userId > :lastUserId order by u.userId asc")
+    List<Integer> findUserIdsAfter(@Param("lastUserId") Integer lastUserId, Pageable pageable);
+
+    // (lastUserId, toUserId] 구간만 keyset 페이징 (전체 발송 파티션 단위)
+    @Query("select u.userId from User u where u.userId > :lastUserId and u.userId <= :toUserId order by u.userId asc")
+    List<Integer> findUserIdsInRange(@Param("lastUserId") Integer lastUserId,
+                                     @Param("toUserId") Integer toUserId,
+                                     Pageable pageable);
+
+    @Query("select coalesce(max(u.userId), 0) from User u")
+    int findMaxUserId();
+
 }
 
 
@@ -1,5 +1,6 @@
 package com.cherry.cherrybookerbe.user.command.service;
 
+import com.cherry.cherrybookerbe.community.command.service.CommunityThreadSummaryWriter;
 import com.cherry.cherrybookerbe.user.command.domain.entity.User;
 import com.cherry.cherrybookerbe.user.command.domain.entity.UserStatus;
 import com.cherry.cherrybookerbe.user.command.dto.request.UpdateNicknameRequest;
@@ -14,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class UserCommandServiceImpl implements UserCommandService {
 
     private final UserRepository userRepository;
+    private final CommunityThreadSummaryWriter communityThreadSummaryWriter;
 
     @Transactional
     @Override
@@ -26,6 +28,7 @@ public class UserCommandServiceImpl implements UserCommandService {
         }
 
         user.updateNickName(request.getNickname());
+        communityThreadSummaryWriter.nicknameChanged(userId, request.getNickname());
     }
 
     @Transactional
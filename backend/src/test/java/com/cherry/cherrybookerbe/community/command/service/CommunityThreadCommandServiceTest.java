@@ -41,6 +41,9 @@ class CommunityThreadCommandServiceTest {
     @Mock
     private ApplicationEventPublisher eventPublisher;
 
+    @Mock
+    private CommunityThreadSummaryWriter summaryWriter;
+
     @InjectMocks
     private CommunityThreadCommandService communityThreadCommandService;
 
@@ -125,9 +128,13 @@ class CommunityThreadCommandServiceTest {
         assertThat(toSave.getParent()).isNull();
         assertThat(toSave.getUserId()).isEqualTo(1);
         assertThat(toSave.getQuoteId()).isEqualTo(10);
+        // 루트는 저장 직후 자기 id 를 root_id 로 갖는다
+        assertThat(saved.getRootId()).isEqualTo(100);
 
         assertThat(response.getThreadId()).isEqualTo(100);
         assertThat(response.isUpdated()).isFalse();
+
+        verify(summaryWriter).threadCreated(saved);
     }
 
     @Test
@@ -193,13 +200,12 @@ class CommunityThreadCommandServiceTest {
     }
 
     @Test
-    @DisplayName("CMT-003: 루트 스레드 삭제 시 자신과 모든 릴레이가 소프트 삭제된다(작성자 본인)")
+    @DisplayName("CMT-003: 루트 스레드 삭제 시 root_id 기준 UPDATE 한 번으로 자신과 모든 릴레이가 소프트 삭제된다(작성자 본인)")
     void deleteThread_rootCascade_whenOwner() {
         // given
         Integer ownerId = 1;
         CommunityThread root = createThreadEntity(1, ownerId, 10, false, 0, false);
         CommunityThread child1 = createReplyEntity(2, root, 2, 11, false, false);
-        CommunityThread child2 = createReplyEntity(3, root, 3, 12, false, false);
 
         when(communityThreadRepository.findByIdAndDeletedFalse(1))
                 .thenReturn(Optional.of(root));
@@ -208,9 +214,10 @@ class CommunityThreadCommandServiceTest {
         communityThreadCommandService.deleteThread(1, ownerId);
 
         // then
-        assertThat(root.isDeleted()).isTrue();
-        assertThat(child1.isDeleted()).isTrue();
-        assertThat(child2.isDeleted()).isTrue();
+        verify(communityThreadRepository).softDeleteTree(1);
+        // 트리를 엔티티로 순회하지 않는다
+        assertThat(child1.isDeleted()).isFalse();
+        verify(summaryWriter).threadDeleted(root);
     }
 
     @Test
@@ -319,6 +326,15 @@ class CommunityThreadCommandServiceTest {
         assertThat(parent.getChildren())
                 .extracting(CommunityThread::getId)
                 .contains(1000);
+        // 릴레이는 부모의 루트를 root_id 로 물려받고 깊이는 부모 + 1
+        assertThat(parent.getChildren())
+                .extracting(CommunityThread::getRootId, CommunityThread::getDepth)
+                .containsOnly(tuple(1, 1));
+        // 부모가 루트면 루트 작성자를 따로 조회하지 않는다
+        verify(communityThreadRepository, never()).findUserIdById(any());
+
+        // 목록 읽기 모델: 루트 답글 수 증가
+        verify(summaryWriter).replyCreated(any(CommunityThread.class));
 
         // 이벤트 발행 검증 (작성자 != 답글작성자)
         verify(eventPublisher).publishEvent(eventCaptor.capture());
@@ -358,6 +374,88 @@ class CommunityThreadCommandServiceTest {
         verify(eventPublisher, never()).publishEvent(any());
     }
 
+    @Test
+    @DisplayName("릴레이에 다시 릴레이를 달면 root_id 로 루트 작성자를 한 번에 찾아 알림 이벤트를 발행한다")
+    void createReply_onNestedRelay_findsRootOwnerByRootId() {
+        // given
+        CommunityThread root = createThreadEntity(1, 1, 10, false, 0, false);
+        CommunityThread relay = createReplyEntity(2, root, 2, 20, false, false);
+
+        when(communityThreadRepository.findByIdAndDeletedFalse(2))
+                .thenReturn(Optional.of(relay));
+        when(communityThreadRepository.findUserIdById(1)).thenReturn(Optional.of(1));
+        when(userRepository.findById(3)).thenReturn(Optional.empty());
+        when(communityThreadRepository.save(any(CommunityThread.class)))
+                .thenAnswer(invocation -> {
+                    CommunityThread reply = invocation.getArgument(0, CommunityThread.class);
+                    ReflectionTestUtils.setField(reply, "id", 3000);
+                    return reply;
+                });
+
+        CreateCommunityReplyRequest request = new CreateCommunityReplyRequest();
+        ReflectionTestUtils.setField(request, "quoteId", 30);
+
+        ArgumentCaptor<ThreadReplyCreatedEvent> eventCaptor =
+                ArgumentCaptor.forClass(ThreadReplyCreatedEvent.class);
+
+        // when
+        communityThreadCommandService.createReply(2, 3, request);
+
+        // then
+        assertThat(relay.getChildren())
+                .extracting(CommunityThread::getRootId, CommunityThread::getDepth)
+                .containsOnly(tuple(1, 2));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().rootThreadId()).isEqualTo(1);
+        assertThat(eventCaptor.getValue().threadOwnerUserId()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("root_id 백필 전 릴레이에 답글을 달면 부모 체인을 따라가 루트/깊이를 채우고 루트 작성자에게 알린다")
+    void createReply_onUnbackfilledRelay_resolvesRootFromParentChain() {
+        // given: root_id/depth 가 비어 있는 (백필 전) 릴레이 2단
+        CommunityThread root = createThreadEntity(1, 1, 10, false, 0, false);
+        CommunityThread relay = createReplyEntity(2, root, 2, 20, false, false);
+        CommunityThread nested = createReplyEntity(3, relay, 4, 40, false, false);
+        ReflectionTestUtils.setField(relay, "rootId", null);
+        ReflectionTestUtils.setField(relay, "depth", null);
+        ReflectionTestUtils.setField(nested, "rootId", null);
+        ReflectionTestUtils.setField(nested, "depth", null);
+
+        when(communityThreadRepository.findByIdAndDeletedFalse(3))
+                .thenReturn(Optional.of(nested));
+        when(communityThreadRepository.findUserIdById(1)).thenReturn(Optional.of(1));
+        when(userRepository.findById(5)).thenReturn(Optional.empty());
+        when(communityThreadRepository.save(any(CommunityThread.class)))
+                .thenAnswer(invocation -> {
+                    CommunityThread reply = invocation.getArgument(0, CommunityThread.class);
+                    ReflectionTestUtils.setField(reply, "id", 4000);
+                    return reply;
+                });
+
+        CreateCommunityReplyRequest request = new CreateCommunityReplyRequest();
+        ReflectionTestUtils.setField(request, "quoteId", 50);
+
+        ArgumentCaptor<ThreadReplyCreatedEvent> eventCaptor =
+                ArgumentCaptor.forClass(ThreadReplyCreatedEvent.class);
+
+        // when
+        communityThreadCommandService.createReply(3, 5, request);
+
+        // then: 지나온 행과 새 답글 모두 루트/깊이가 채워진다
+        assertThat(relay.getRootId()).isEqualTo(1);
+        assertThat(relay.getDepth()).isEqualTo(1);
+        assertThat(nested.getRootId()).isEqualTo(1);
+        assertThat(nested.getDepth()).isEqualTo(2);
+        assertThat(nested.getChildren())
+                .extracting(CommunityThread::getRootId, CommunityThread::getDepth)
+                .containsOnly(tuple(1, 3));
+        verify(summaryWriter).replyCreated(argThat(reply -> Integer.valueOf(1).equals(reply.getRootId())));
+        verify(eventPublisher).publishEvent(eventCaptor.capture());
+        assertThat(eventCaptor.getValue().rootThreadId()).isEqualTo(1);
+        assertThat(eventCaptor.getValue().threadOwnerUserId()).isEqualTo(1);
+    }
+
     @Test
     @DisplayName("CMT-008: 사용자는 자신의 답변(릴레이)을 다른 글귀로 수정할 수 있다")
     void updateReply_updatesQuote_whenOwner() {
@@ -425,6 +523,7 @@ class CommunityThreadCommandServiceTest {
         // then
         assertThat(reply.isDeleted()).isTrue();
         assertThat(parent.isDeleted()).isFalse();
+        verify(summaryWriter).threadDeleted(reply);
     }
 
     @Test
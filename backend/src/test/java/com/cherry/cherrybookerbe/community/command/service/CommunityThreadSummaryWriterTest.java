@@ -0,0 +1,166 @@
+package com.cherry.cherrybookerbe.community.command.service;
+
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThreadSummary;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadSummaryRepository;
+import com.cherry.cherrybookerbe.community.query.cache.CommunityThreadFeedCache;
+import com.cherry.cherrybookerbe.quote.command.entity.Quote;
+import com.cherry.cherrybookerbe.quote.query.repository.QuoteQueryRepository;
+import com.cherry.cherrybookerbe.user.command.domain.entity.User;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityThreadSummaryWriterTest {
+
+    @Mock
+    private CommunityThreadSummaryRepository summaryRepository;
+
+    @Mock
+    private QuoteQueryRepository quoteRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private CommunityThreadFeedCache feedCache;
+
+    @InjectMocks
+    private CommunityThreadSummaryWriter summaryWriter;
+
+    private CommunityThread thread(Integer id, CommunityThread parent, Integer userId, Integer quoteId) {
+        CommunityThread thread = CommunityThread.builder()
+                .parent(parent)
+                .userId(userId)
+                .quoteId(quoteId)
+                .build();
+        ReflectionTestUtils.setField(thread, "id", id);
+        ReflectionTestUtils.setField(thread, "createdAt", LocalDateTime.now());
+        return thread;
+    }
+
+    @Test
+    @DisplayName("루트 스레드 생성 시 닉네임/글귀 내용을 펼쳐 읽기 모델 행을 만든다")
+    void threadCreated_savesDenormalizedRow() {
+        // given
+        CommunityThread root = thread(1, null, 7, 10);
+
+        User user = mock(User.class);
+        when(user.getUserNickname()).thenReturn("체리");
+        when(userRepository.findById(7)).thenReturn(Optional.of(user));
+
+        Quote quote = mock(Quote.class);
+        when(quote.getContent()).thenReturn("오늘의 글귀");
+        when(quoteRepository.findById(10L)).thenReturn(Optional.of(quote));
+
+        // when
+        summaryWriter.threadCreated(root);
+
+        // then
+        ArgumentCaptor<CommunityThreadSummary> captor = ArgumentCaptor.forClass(CommunityThreadSummary.class);
+        verify(summaryRepository).save(captor.capture());
+
+        CommunityThreadSummary saved = captor.getValue();
+        assertThat(saved.getThreadId()).isEqualTo(1);
+        assertThat(saved.getUserNickname()).isEqualTo("체리");
+        assertThat(saved.getQuoteContent()).isEqualTo("오늘의 글귀");
+        assertThat(saved.getReplyCount()).isZero();
+        assertThat(saved.getCreatedAt()).isEqualTo(root.getCreatedAt());
+        verify(feedCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("답글 생성은 루트의 답글 수를 원자적으로 올리고, 답글 삭제는 루트의 답글 수를 내린다")
+    void replyCreatedAndDeleted_adjustRootReplyCount() {
+        // given
+        CommunityThread root = thread(1, null, 7, 10);
+        CommunityThread reply = thread(2, root, 8, 20);
+
+        // when
+        summaryWriter.replyCreated(reply);
+        summaryWriter.threadDeleted(reply);
+
+        // then
+        verify(summaryRepository).increaseReplyCount(1, reply.getCreatedAt());
+        verify(summaryRepository).decreaseReplyCount(1);
+        verify(summaryRepository, never()).deleteById(any());
+        // 답글 수는 목록 캐시 TTL 안에서 늦게 반영된다
+        verifyNoInteractions(feedCache);
+    }
+
+    @Test
+    @DisplayName("루트 삭제 시 읽기 모델 행을 지운다")
+    void threadDeleted_root_deletesRow() {
+        // given
+        CommunityThread root = thread(1, null, 7, 10);
+
+        // when
+        summaryWriter.threadDeleted(root);
+
+        // then
+        verify(summaryRepository).deleteById(1);
+        verify(summaryRepository, never()).decreaseReplyCount(any());
+        verify(feedCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("답글의 글귀 수정은 목록에 보이지 않으므로 읽기 모델을 건드리지 않는다")
+    void quoteUpdated_reply_noop() {
+        // given
+        CommunityThread root = thread(1, null, 7, 10);
+        CommunityThread reply = thread(2, root, 8, 20);
+
+        // when
+        summaryWriter.quoteUpdated(reply);
+
+        // then
+        verifyNoInteractions(summaryRepository, quoteRepository, feedCache);
+    }
+
+    @Test
+    @DisplayName("루트의 글귀 수정 시 새 글귀 내용과 수정 시각을 반영한다")
+    void quoteUpdated_root_updatesQuote() {
+        // given
+        CommunityThread root = thread(1, null, 7, 30);
+
+        Quote quote = mock(Quote.class);
+        when(quote.getContent()).thenReturn("바뀐 글귀");
+        when(quoteRepository.findById(30L)).thenReturn(Optional.of(quote));
+
+        // when
+        summaryWriter.quoteUpdated(root);
+
+        // then
+        verify(summaryRepository).updateQuote(eq(1), eq(30), eq("바뀐 글귀"), any(LocalDateTime.class));
+        verify(feedCache).invalidateAfterCommit();
+    }
+
+    @Test
+    @DisplayName("닉네임 변경은 바뀐 행이 있을 때만 목록 캐시를 비운다")
+    void nicknameChanged_invalidatesOnlyWhenRowsChanged() {
+        // given
+        when(summaryRepository.updateNicknameByUserId(7, "새닉")).thenReturn(2);
+        when(summaryRepository.updateNicknameByUserId(8, "새닉")).thenReturn(0);
+
+        // when
+        summaryWriter.nicknameChanged(7, "새닉");
+        summaryWriter.nicknameChanged(8, "새닉");
+
+        // then
+        verify(feedCache, times(1)).invalidateAfterCommit();
+    }
+}
@@ -0,0 +1,151 @@
+package com.cherry.cherrybookerbe.community.query.cache;
+
+import com.cherry.cherrybookerbe.common.dto.Pagination;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadListResponse;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadSummaryResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CommunityThreadFeedCacheTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CommunityThreadFeedCache feedCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        feedCache = new CommunityThreadFeedCache(redisTemplate, objectMapper, meterRegistry, true, 3, 30);
+    }
+
+    private CommunityThreadListResponse response(Integer threadId) {
+        CommunityThreadSummaryResponse item = new CommunityThreadSummaryResponse(
+                threadId, 7, "체리", 10, "오늘의 글귀",
+                LocalDateTime.of(2025, 1, 1, 12, 0), null, false, false, 0, 2,
+                LocalDateTime.of(2025, 1, 1, 13, 0));
+        return new CommunityThreadListResponse(
+                List.of(item),
+                Pagination.builder().currentPage(0).totalPages(1).totalItems(1L).build()
+        );
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("community.feed.cache").tag("result", result).counter().count();
+    }
+
+    @Test
+    @DisplayName("캐시 미스: loader 결과를 페이지 필드에 저장하고 새 해시에만 TTL 을 건다")
+    void getOrLoad_miss_loadsAndStores() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(CommunityThreadFeedCache.KEY, "0:20")).thenReturn(null);
+        when(redisTemplate.getExpire(CommunityThreadFeedCache.KEY)).thenReturn(-1L);
+
+        // when
+        CommunityThreadListResponse result = feedCache.getOrLoad(0, 20, () -> response(1));
+
+        // then
+        assertThat(result.getThreads()).extracting(CommunityThreadSummaryResponse::getThreadId).containsExactly(1);
+        verify(hashOperations).put(eq(CommunityThreadFeedCache.KEY), eq("0:20"), anyString());
+        verify(redisTemplate).expire(CommunityThreadFeedCache.KEY, Duration.ofSeconds(30));
+        assertThat(count("miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 히트: 저장된 JSON 을 응답으로 되돌리고 loader 는 호출하지 않는다")
+    void getOrLoad_hit_skipsLoader() throws Exception {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(redisTemplate.getExpire(CommunityThreadFeedCache.KEY)).thenReturn(-1L);
+
+        ArgumentCaptor<Object> stored = ArgumentCaptor.forClass(Object.class);
+        feedCache.getOrLoad(0, 20, () -> response(5));
+        verify(hashOperations).put(eq(CommunityThreadFeedCache.KEY), eq("0:20"), stored.capture());
+        when(hashOperations.get(CommunityThreadFeedCache.KEY, "0:20")).thenReturn(stored.getValue());
+
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        CommunityThreadListResponse result = feedCache.getOrLoad(0, 20, () -> {
+            loads.incrementAndGet();
+            return response(9);
+        });
+
+        // then
+        assertThat(loads).hasValue(0);
+        CommunityThreadSummaryResponse item = result.getThreads().get(0);
+        assertThat(item.getThreadId()).isEqualTo(5);
+        assertThat(item.getUserNickname()).isEqualTo("체리");
+        assertThat(item.getReplyCount()).isEqualTo(2);
+        assertThat(item.getLastReplyAt()).isEqualTo(LocalDateTime.of(2025, 1, 1, 13, 0));
+        assertThat(result.getPagination().getTotalItems()).isEqualTo(1L);
+        assertThat(count("hit")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("캐시 대상이 아닌 페이지(뒤쪽 페이지/큰 size)는 Redis 를 거치지 않는다")
+    void getOrLoad_notCacheable_bypassesRedis() {
+        // when
+        feedCache.getOrLoad(3, 20, () -> response(1));
+        feedCache.getOrLoad(0, 100, () -> response(1));
+
+        // then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Redis 조회가 실패하면 DB(loader) 결과로 응답하고 error 로 센다")
+    void getOrLoad_redisFailure_fallsBackToLoader() {
+        // given
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.get(any(), any())).thenThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        CommunityThreadListResponse result = feedCache.getOrLoad(1, 20, () -> response(3));
+
+        // then
+        assertThat(result.getThreads()).extracting(CommunityThreadSummaryResponse::getThreadId).containsExactly(3);
+        assertThat(count("error")).isEqualTo(1.0);
+        verify(hashOperations, never()).put(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서의 무효화는 캐시 키를 바로 지운다")
+    void invalidateAfterCommit_withoutTransaction_deletesImmediately() {
+        // when
+        feedCache.invalidateAfterCommit();
+
+        // then
+        verify(redisTemplate).delete(CommunityThreadFeedCache.KEY);
+    }
+}
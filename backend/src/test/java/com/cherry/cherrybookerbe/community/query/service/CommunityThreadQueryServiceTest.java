@@ -1,36 +1,42 @@
 package com.cherry.cherrybookerbe.community.query.service;
 
+import com.cherry.cherrybookerbe.common.dto.KeysetCursor;
 import com.cherry.cherrybookerbe.common.dto.Pagination;
-import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThread;
+import com.cherry.cherrybookerbe.community.command.domain.entity.CommunityThreadSummary;
 import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadRepository;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadRepository.ThreadDetailRow;
+import com.cherry.cherrybookerbe.community.command.domain.repository.CommunityThreadSummaryRepository;
+import com.cherry.cherrybookerbe.community.query.cache.CommunityThreadFeedCache;
+import com.cherry.cherrybookerbe.community.query.dto.CommunityReplyCursorResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityReplyResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadDetailResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadListResponse;
 import com.cherry.cherrybookerbe.community.query.dto.CommunityThreadSummaryResponse;
-import com.cherry.cherrybookerbe.quote.command.entity.Quote;
-import com.cherry.cherrybookerbe.quote.query.repository.QuoteQueryRepository;
-import com.cherry.cherrybookerbe.user.command.domain.entity.User;
-import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.ByteArrayOutputStream;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.ResponseStatusException;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,112 +46,73 @@ class CommunityThreadQueryServiceTest {
     private CommunityThreadRepository communityThreadRepository;
 
     @Mock
-    private QuoteQueryRepository quoteRepository;
+    private CommunityThreadSummaryRepository summaryRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private CommunityThreadFeedCache feedCache;
 
-    @InjectMocks
     private CommunityThreadQueryService communityThreadQueryService;
 
-    private CommunityThread createThreadEntity(Integer id,
-                                               Integer userId,
-                                               Integer quoteId,
-                                               boolean deleted,
-                                               int reportCount,
-                                               boolean updated,
-                                               LocalDateTime createdAt,
-                                               LocalDateTime updatedAtOverride) {
-        CommunityThread thread = CommunityThread.builder()
-                .parent(null)
-                .userId(userId)
-                .quoteId(quoteId)
-                .build();
-
-        if (id != null) {
-            ReflectionTestUtils.setField(thread, "id", id);
-        }
-
-        ReflectionTestUtils.setField(thread, "createdAt", createdAt);
-        ReflectionTestUtils.setField(thread, "updatedAt",
-                updated ? (updatedAtOverride != null ? updatedAtOverride : createdAt.plusMinutes(1)) : null);
-        ReflectionTestUtils.setField(thread, "deleted", deleted);
-        ReflectionTestUtils.setField(thread, "reportCount", reportCount);
-
-        return thread;
+    @BeforeEach
+    void setUp() {
+        communityThreadQueryService = new CommunityThreadQueryService(
+                communityThreadRepository,
+                summaryRepository,
+                feedCache,
+                new ObjectMapper().registerModule(new JavaTimeModule()),
+                2
+        );
     }
 
-    private CommunityThread createReplyEntity(Integer id,
-                                              CommunityThread parent,
-                                              Integer userId,
-                                              Integer quoteId,
-                                              boolean deleted,
-                                              boolean updated,
-                                              LocalDateTime createdAt) {
-        CommunityThread reply = CommunityThread.builder()
-                .parent(parent)
+    private CommunityThreadSummary createSummary(Integer threadId,
+                                                 Integer userId,
+                                                 String nickname,
+                                                 Integer quoteId,
+                                                 String quoteContent,
+                                                 int replyCount,
+                                                 LocalDateTime lastReplyAt,
+                                                 int reportCount,
+                                                 LocalDateTime createdAt,
+                                                 LocalDateTime updatedAt) {
+        CommunityThreadSummary summary = CommunityThreadSummary.builder()
+                .threadId(threadId)
                 .userId(userId)
+                .userNickname(nickname)
                 .quoteId(quoteId)
+                .quoteContent(quoteContent)
+                .createdAt(createdAt)
                 .build();
 
-        if (id != null) {
-            ReflectionTestUtils.setField(reply, "id", id);
-        }
-
-        ReflectionTestUtils.setField(reply, "createdAt", createdAt);
-        ReflectionTestUtils.setField(reply, "updatedAt",
-                updated ? createdAt.plusMinutes(1) : null);
-        ReflectionTestUtils.setField(reply, "deleted", deleted);
-
-        if (parent != null) {
-            parent.addChild(reply);
-        }
+        ReflectionTestUtils.setField(summary, "replyCount", replyCount);
+        ReflectionTestUtils.setField(summary, "lastReplyAt", lastReplyAt);
+        ReflectionTestUtils.setField(summary, "reportCount", reportCount);
+        ReflectionTestUtils.setField(summary, "updatedAt", updatedAt);
 
-        return reply;
+        return summary;
     }
 
     @Test
-    @DisplayName("CMT-004/CMT-006: 스레드 목록 조회 시 삭제되지 않은 루트 스레드만 요약 + 페이징 정보로 반환된다(닉네임/글귀 포함)")
-    void getThreadList_returnsPagedSummaryOfRootThreads() {
+    @DisplayName("CMT-004/CMT-006: 스레드 목록 조회 시 thread_summary 읽기 모델만 읽어 요약 + 페이징 정보로 반환된다(닉네임/글귀/답글 수 포함)")
+    void getThreadList_returnsPagedSummaryFromReadModel() {
         // given
         LocalDateTime now = LocalDateTime.now();
 
-        CommunityThread thread1 = createThreadEntity(
-                1, 1, 10, false, 0, false,
-                now.minusMinutes(10), null
-        );
-        CommunityThread thread2 = createThreadEntity(
-                2, 2, 20, false, 1, true,
-                now.minusMinutes(5), now.minusMinutes(3)
-        );
+        CommunityThreadSummary summary1 = createSummary(1, 1, "닉네임-1", 10, "QUOTE-10",
+                0, null, 0, now.minusMinutes(10), null);
+        CommunityThreadSummary summary2 = createSummary(2, 2, "닉네임-2", 20, "QUOTE-20",
+                3, now.minusMinutes(1), 1, now.minusMinutes(5), now.minusMinutes(3));
 
-        Pageable pageable = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<CommunityThread> page = new PageImpl<>(
-                List.of(thread2, thread1),
-                pageable,
+        Page<CommunityThreadSummary> page = new PageImpl<>(
+                List.of(summary2, summary1),
+                PageRequest.of(0, 10),
                 2
         );
 
-        when(communityThreadRepository.findByDeletedFalseAndParentIsNull(any(Pageable.class)))
+        when(summaryRepository.findAllByOrderByCreatedAtDescThreadIdDesc(any(Pageable.class)))
                 .thenReturn(page);
-
-        Quote quote1 = mock(Quote.class);
-        Quote quote2 = mock(Quote.class);
-        when(quote1.getQuoteId()).thenReturn(10L);
-        when(quote2.getQuoteId()).thenReturn(20L);
-        when(quote1.getContent()).thenReturn("QUOTE-10");
-        when(quote2.getContent()).thenReturn("QUOTE-20");
-        when(quoteRepository.findAllById(any()))
-                .thenReturn(List.of(quote1, quote2));
-
-        User user1 = mock(User.class);
-        User user2 = mock(User.class);
-        when(user1.getUserId()).thenReturn(1);
-        when(user2.getUserId()).thenReturn(2);
-        when(user1.getUserNickname()).thenReturn("닉네임-1");
-        when(user2.getUserNickname()).thenReturn("닉네임-2");
-        when(userRepository.findAllById(any()))
-                .thenReturn(List.of(user1, user2));
+        // 캐시 미스: loader 를 그대로 실행
+        when(feedCache.getOrLoad(eq(0), eq(10), any()))
+                .thenAnswer(inv -> inv.getArgument(2, Supplier.class).get());
 
         // when
         CommunityThreadListResponse result = communityThreadQueryService.getThreadList(0, 10);
@@ -164,68 +131,60 @@ class CommunityThreadQueryServiceTest {
         assertThat(first.isUpdated()).isTrue();
         assertThat(first.isDeleted()).isFalse();
         assertThat(first.getReportCount()).isEqualTo(1);
+        assertThat(first.getReplyCount()).isEqualTo(3);
+        assertThat(first.getLastReplyAt()).isEqualTo(now.minusMinutes(1));
 
         assertThat(second.getThreadId()).isEqualTo(1);
-        assertThat(second.getUserId()).isEqualTo(1);
         assertThat(second.getUserNickname()).isEqualTo("닉네임-1");
-        assertThat(second.getQuoteId()).isEqualTo(10);
         assertThat(second.getQuoteContent()).isEqualTo("QUOTE-10");
         assertThat(second.isUpdated()).isFalse();
-        assertThat(second.isDeleted()).isFalse();
-        assertThat(second.getReportCount()).isEqualTo(0);
+        assertThat(second.getReplyCount()).isZero();
+        assertThat(second.getLastReplyAt()).isNull();
 
         Pagination pagination = result.getPagination();
         assertThat(pagination.getCurrentPage()).isEqualTo(0);
         assertThat(pagination.getTotalPages()).isEqualTo(1);
         assertThat(pagination.getTotalItems()).isEqualTo(2L);
+
+        // 목록 조회는 원본 threads 테이블을 읽지 않는다
+        verifyNoInteractions(communityThreadRepository);
     }
 
     @Test
-    @DisplayName("CMT-005/CMT-007/CMT-009: 스레드 상세 조회 시 현재 스레드와 자식 릴레이 목록이 함께 조회된다(삭제 답변 포함)")
+    @DisplayName("내 스레드 목록 조회는 작성자 기준으로 읽기 모델을 조회한다")
+    void getMyThreadList_readsSummaryByUser() {
+        // given
+        CommunityThreadSummary summary = createSummary(5, 7, "나", 50, "QUOTE-50",
+                1, LocalDateTime.now(), 0, LocalDateTime.now().minusDays(1), null);
+        when(summaryRepository.findByUserIdOrderByCreatedAtDescThreadIdDesc(eq(7), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(summary), PageRequest.of(0, 10), 1));
+
+        // when
+        CommunityThreadListResponse result = communityThreadQueryService.getMyThreadList(7, 0, 10);
+
+        // then
+        assertThat(result.getThreads())
+                .extracting(CommunityThreadSummaryResponse::getThreadId)
+                .containsExactly(5);
+        assertThat(result.getThreads().get(0).getReplyCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("CMT-005/CMT-007/CMT-009: 스레드 상세 조회 시 현재 스레드와 자식 릴레이 목록을 한 번의 조회로 가져온다(삭제 답변 포함)")
     void getThreadDetail_returnsThreadAndChildrenReplies() {
         // given
         LocalDateTime now = LocalDateTime.now();
 
-        CommunityThread root = createThreadEntity(
-                1, 1, 10, false, 0, true,
-                now.minusMinutes(20), now.minusMinutes(10)
-        );
+        ThreadDetailRow root = detailRow(1, 1, "작성자-1", 10, "ROOT-QUOTE",
+                now.minusMinutes(20), now.minusMinutes(10), false);
+        ThreadDetailRow reply1 = detailRow(2, 2, "작성자-2", 20, "REPLY1-QUOTE",
+                now.minusMinutes(9), now.minusMinutes(8), false);
+        // 삭제된 릴레이는 글귀를 조인하지 않는다
+        ThreadDetailRow reply2 = detailRow(3, 3, "작성자-3", 30, null,
+                now.minusMinutes(8), null, true);
 
-        CommunityThread reply1 = createReplyEntity(
-                2, root, 2, 20, false, true,
-                now.minusMinutes(9)
-        );
-        CommunityThread reply2 = createReplyEntity(
-                3, root, 3, 30, true, false,
-                now.minusMinutes(8)
-        );
-
-        when(communityThreadRepository.findByIdAndDeletedFalse(1))
-                .thenReturn(Optional.of(root));
-
-        Quote q10 = mock(Quote.class);
-        Quote q20 = mock(Quote.class);
-        Quote q30 = mock(Quote.class);
-        when(q10.getQuoteId()).thenReturn(10L);
-        when(q20.getQuoteId()).thenReturn(20L);
-        when(q30.getQuoteId()).thenReturn(30L);
-        when(q10.getContent()).thenReturn("ROOT-QUOTE");
-        when(q20.getContent()).thenReturn("REPLY1-QUOTE");
-        when(q30.getContent()).thenReturn("REPLY2-QUOTE");
-        when(quoteRepository.findAllById(any()))
-                .thenReturn(List.of(q10, q20, q30));
-
-        User u1 = mock(User.class);
-        User u2 = mock(User.class);
-        User u3 = mock(User.class);
-        when(u1.getUserId()).thenReturn(1);
-        when(u2.getUserId()).thenReturn(2);
-        when(u3.getUserId()).thenReturn(3);
-        when(u1.getUserNickname()).thenReturn("작성자-1");
-        when(u2.getUserNickname()).thenReturn("작성자-2");
-        when(u3.getUserNickname()).thenReturn("작성자-3");
-        when(userRepository.findAllById(any()))
-                .thenReturn(List.of(u1, u2, u3));
+        when(communityThreadRepository.findDetailRows(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(root, reply1, reply2));
 
         // when
         CommunityThreadDetailResponse result = communityThreadQueryService.getThreadDetail(1);
@@ -240,19 +199,14 @@ class CommunityThreadQueryServiceTest {
         assertThat(result.isDeleted()).isFalse();
         assertThat(result.getReportCount()).isEqualTo(0);
 
-        // then: replies (삭제 포함)
+        // then: replies (삭제 포함, 작성순)
         List<CommunityReplyResponse> replies = result.getReplies();
-        assertThat(replies).hasSize(2);
+        assertThat(replies)
+                .extracting(CommunityReplyResponse::getReplyId)
+                .containsExactly(2, 3);
 
-        CommunityReplyResponse r1 = replies.stream()
-                .filter(r -> r.getReplyId().equals(2))
-                .findFirst()
-                .orElseThrow();
-
-        CommunityReplyResponse r2 = replies.stream()
-                .filter(r -> r.getReplyId().equals(3))
-                .findFirst()
-                .orElseThrow();
+        CommunityReplyResponse r1 = replies.get(0);
+        CommunityReplyResponse r2 = replies.get(1);
 
         assertThat(r1.getUserId()).isEqualTo(2);
         assertThat(r1.getUserNickname()).isEqualTo("작성자-2");
@@ -265,16 +219,101 @@ class CommunityThreadQueryServiceTest {
         assertThat(r2.getUserId()).isEqualTo(3);
         assertThat(r2.getUserNickname()).isEqualTo("작성자-3");
         assertThat(r2.getQuoteId()).isEqualTo(30);
-        assertThat(r2.getQuoteContent()).isEqualTo("REPLY2-QUOTE");
+        assertThat(r2.getQuoteContent()).isNull();
         assertThat(r2.isDeleted()).isTrue();
+        assertThat(r2.isUpdated()).isFalse();
+
+        // 릴레이 페이지 크기(2) 이하이므로 다음 페이지 없음
+        assertThat(result.isHasMoreReplies()).isFalse();
+        assertThat(result.getReplyNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("상세 조회는 릴레이 첫 페이지만 담고, 더 있으면 다음 커서를 돌려준다")
+    void getThreadDetail_longRelay_returnsFirstPageAndCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        ThreadDetailRow root = detailRow(1, 1, "작성자-1", 10, "ROOT", now.minusHours(1), null, false);
+        ThreadDetailRow reply1 = detailRow(2, 2, "작성자-2", 20, "R1", now.minusMinutes(3), null, false);
+        ThreadDetailRow reply2 = detailRow(3, 3, "작성자-3", 30, "R2", now.minusMinutes(2), null, false);
+        ThreadDetailRow reply3 = detailRow(4, 4, "작성자-4", 40, "R3", now.minusMinutes(1), null, false);
+
+        when(communityThreadRepository.findDetailRows(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(root, reply1, reply2, reply3));
+
+        // when
+        CommunityThreadDetailResponse result = communityThreadQueryService.getThreadDetail(1);
+
+        // then
+        assertThat(result.getReplies())
+                .extracting(CommunityReplyResponse::getReplyId)
+                .containsExactly(2, 3);
+        assertThat(result.isHasMoreReplies()).isTrue();
+        assertThat(KeysetCursor.decode(result.getReplyNextCursor()))
+                .isEqualTo(new KeysetCursor(reply2.getCreatedAt(), 3));
+    }
+
+    @Test
+    @DisplayName("릴레이 목록은 커서 이후부터 작성순으로 이어 받는다")
+    void getReplies_withCursor_seeksAfterCursor() {
+        // given
+        LocalDateTime at = LocalDateTime.of(2025, 1, 1, 12, 0);
+        String cursor = new KeysetCursor(at, 3).encode();
+
+        ThreadDetailRow reply = detailRow(4, 4, "작성자-4", 40, "R3", at.plusMinutes(1), null, false);
+        when(communityThreadRepository.findReplyRowsAfter(eq(1), eq(at), eq(3), any(Pageable.class)))
+                .thenReturn(List.of(reply));
+
+        // when
+        CommunityReplyCursorResponse result = communityThreadQueryService.getReplies(1, cursor, 10);
+
+        // then
+        assertThat(result.getReplies())
+                .extracting(CommunityReplyResponse::getReplyId)
+                .containsExactly(4);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("잘못된 릴레이 커서는 400을 던진다")
+    void getReplies_invalidCursor_badRequest() {
+        // when & then
+        assertThatThrownBy(() -> communityThreadQueryService.getReplies(1, "not-a-cursor", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
+    @Test
+    @DisplayName("릴레이 스트리밍은 전체 릴레이를 JSON 배열로 쓴다")
+    void writeReplies_writesJsonArray() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        when(communityThreadRepository.streamReplyRows(1)).thenReturn(Stream.of(
+                detailRow(2, 2, "작성자-2", 20, "R1", now.minusMinutes(2), null, false),
+                detailRow(3, 3, "작성자-3", 30, null, now.minusMinutes(1), null, true)
+        ));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        communityThreadQueryService.writeReplies(1, out);
+
+        // then
+        JsonNode array = new ObjectMapper().readTree(out.toByteArray());
+        assertThat(array.isArray()).isTrue();
+        assertThat(array).hasSize(2);
+        assertThat(array.get(0).get("replyId").asInt()).isEqualTo(2);
+        assertThat(array.get(0).get("quoteContent").asText()).isEqualTo("R1");
+        assertThat(array.get(1).get("deleted").asBoolean()).isTrue();
     }
 
     @Test
     @DisplayName("스레드 상세 조회 시 대상 스레드가 없으면 404를 던진다")
     void getThreadDetail_notFound() {
         // given
-        when(communityThreadRepository.findByIdAndDeletedFalse(999))
-                .thenReturn(Optional.empty());
+        when(communityThreadRepository.findDetailRows(eq(999), any(Pageable.class)))
+                .thenReturn(List.of());
 
         // when & then
         assertThatThrownBy(() -> communityThreadQueryService.getThreadDetail(999))
@@ -282,4 +321,41 @@ class CommunityThreadQueryServiceTest {
                 .extracting("statusCode")
                 .isEqualTo(HttpStatus.NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("대상 스레드가 삭제되어 릴레이 행만 조회되면 404를 던진다")
+    void getThreadDetail_deletedRoot_notFound() {
+        // given
+        ThreadDetailRow orphanReply = detailRow(2, 2, "작성자-2", 20, null,
+                LocalDateTime.now(), null, true);
+        when(communityThreadRepository.findDetailRows(eq(1), any(Pageable.class)))
+                .thenReturn(List.of(orphanReply));
+
+        // when & then
+        assertThatThrownBy(() -> communityThreadQueryService.getThreadDetail(1))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    private ThreadDetailRow detailRow(Integer threadId,
+                                      Integer userId,
+                                      String nickname,
+                                      Integer quoteId,
+                                      String quoteContent,
+                                      LocalDateTime createdAt,
+                                      LocalDateTime updatedAt,
+                                      boolean deleted) {
+        return new ThreadDetailRow() {
+            @Override public Integer getThreadId() { return threadId; }
+            @Override public Integer getUserId() { return userId; }
+            @Override public String getUserNickname() { return nickname; }
+            @Override public Integer getQuoteId() { return quoteId; }
+            @Override public String getQuoteContent() { return quoteContent; }
+            @Override public LocalDateTime getCreatedAt() { return createdAt; }
+            @Override public LocalDateTime getUpdatedAt() { return updatedAt; }
+            @Override public boolean isDeleted() { return deleted; }
+            @Override public int getReportCount() { return 0; }
+        };
+    }
 }
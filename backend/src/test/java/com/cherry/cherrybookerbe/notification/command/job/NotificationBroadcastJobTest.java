@@ -0,0 +1,201 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationBroadcastPartition;
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLog;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationSendStatus;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationBroadcastPartitionRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationBroadcaster;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBroadcastJobTest {
+
+    @Mock
+    private NotificationBroadcaster broadcaster;
+
+    @Mock
+    private NotificationSendLogRepository sendLogRepository;
+
+    @Mock
+    private NotificationBroadcastPartitionRepository partitionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    private NotificationBroadcastJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new NotificationBroadcastJob(broadcaster, sendLogRepository, partitionRepository, userRepository, 2, 2, 300);
+    }
+
+    // saveAll 이 IDENTITY id 를 채워 돌려주는 것처럼
+    private void stubSaveAllAssigningIds() {
+        when(partitionRepository.saveAll(anyList())).thenAnswer(inv -> {
+            List<NotificationBroadcastPartition> saved = inv.getArgument(0);
+            for (int i = 0; i < saved.size(); i++) {
+                ReflectionTestUtils.setField(saved.get(i), "id", 100 + i);
+            }
+            return saved;
+        });
+    }
+
+    private NotificationBroadcastPartition partition(Integer id, int after, int to, int cursor) {
+        NotificationBroadcastPartition partition = NotificationBroadcastPartition.builder()
+                .sendLogId(7)
+                .afterUserId(after)
+                .toUserId(to)
+                .build();
+        ReflectionTestUtils.setField(partition, "id", id);
+        ReflectionTestUtils.setField(partition, "cursorUserId", cursor);
+        return partition;
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    @DisplayName("전체 발송 잡: userId 구간을 파티션으로 저장/병렬 발송하고 진행률과 파티션 커서를 누적한다")
+    void run_splitsIntoPartitionsAndRecordsProgress() {
+        // given
+        when(broadcaster.isFanOutOnRead()).thenReturn(false);
+        when(userRepository.findMaxUserId()).thenReturn(10);
+        when(userRepository.count()).thenReturn(8L);
+        stubSaveAllAssigningIds();
+        when(broadcaster.broadcastRange(eq(7), eq("공지"), eq("본문"), anyInt(), anyInt(), any()))
+                .thenAnswer(inv -> {
+                    int to = inv.getArgument(4);
+                    NotificationBroadcaster.ProgressListener listener = inv.getArgument(5);
+                    listener.onChunk(to, 4, 0);
+                    return 4;
+                });
+        when(sendLogRepository.findById(7)).thenReturn(Optional.empty());
+
+        // when
+        NotificationSendStatus status = job.run(7, "공지", "본문");
+
+        // then
+        assertThat(status).isEqualTo(NotificationSendStatus.SUCCESS);
+        verify(sendLogRepository).updateTotalCount(7, 8);
+        verify(broadcaster).broadcastRange(eq(7), eq("공지"), eq("본문"), eq(0), eq(5), any());
+        verify(broadcaster).broadcastRange(eq(7), eq("공지"), eq("본문"), eq(5), eq(10), any());
+        verify(sendLogRepository, times(2)).addProgress(eq(7), eq(4), eq(0), any(LocalDateTime.class));
+        verify(partitionRepository).advance(100, 5);
+        verify(partitionRepository).advance(101, 10);
+        verify(partitionRepository).markDone(100);
+        verify(partitionRepository).markDone(101);
+        verify(sendLogRepository).finish(eq(7), eq(NotificationSendStatus.SUCCESS), any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("전체 발송 잡: 파티션 하나가 예외로 끝나면 FAILED 로 마무리한다")
+    void run_partitionFails_markFailed() {
+        // given
+        when(broadcaster.isFanOutOnRead()).thenReturn(false);
+        when(userRepository.findMaxUserId()).thenReturn(10);
+        when(userRepository.count()).thenReturn(8L);
+        stubSaveAllAssigningIds();
+        when(broadcaster.broadcastRange(eq(7), anyString(), anyString(), eq(0), eq(5), any())).thenReturn(4);
+        when(broadcaster.broadcastRange(eq(7), anyString(), anyString(), eq(5), eq(10), any()))
+                .thenThrow(new IllegalStateException("db down"));
+
+        // when
+        NotificationSendStatus status = job.run(7, "공지", "본문");
+
+        // then
+        assertThat(status).isEqualTo(NotificationSendStatus.FAILED);
+        verify(sendLogRepository).finish(eq(7), eq(NotificationSendStatus.FAILED), any(LocalDateTime.class));
+        verify(partitionRepository, never()).markDone(101);
+    }
+
+    @Test
+    @DisplayName("전체 발송 잡: fan-out-on-read 모드면 공지만 저장하고 파티션을 만들지 않는다")
+    void run_fanOutOnRead_publishesNoticeOnly() {
+        // given
+        when(broadcaster.isFanOutOnRead()).thenReturn(true);
+
+        // when
+        NotificationSendStatus status = job.run(7, "공지", "본문");
+
+        // then
+        assertThat(status).isEqualTo(NotificationSendStatus.SUCCESS);
+        verify(broadcaster).publishNotice("공지", "본문");
+        verify(broadcaster, never()).broadcastRange(any(), anyString(), anyString(), anyInt(), anyInt(), any());
+        verifyNoInteractions(userRepository, partitionRepository);
+    }
+
+    @Test
+    @DisplayName("이어받기: 리스가 끝난 PENDING 발송은 끝나지 않은 파티션만 커서 다음부터 이어서 보낸다")
+    void runPartitions_resumesFromCursor() {
+        // given
+        NotificationBroadcastPartition unfinished = partition(101, 5, 10, 8);
+
+        // when
+        NotificationSendStatus status = job.runPartitions(7, "공지", "본문", List.of(unfinished));
+
+        // then
+        assertThat(status).isEqualTo(NotificationSendStatus.SUCCESS);
+        verify(broadcaster).broadcastRange(eq(7), eq("공지"), eq("본문"), eq(8), eq(10), any());
+        verify(broadcaster, never()).broadcastRange(any(), anyString(), anyString(), eq(0), anyInt(), any());
+        verify(partitionRepository).markDone(101);
+    }
+
+    @Test
+    @DisplayName("이어받기: 파티션을 만들기 전에 멈춘 발송은 이어 보낼 수 없으므로 FAILED 로 닫는다")
+    void recoverStale_withoutPartitions_markFailed() {
+        // given
+        NotificationSendLog sendLog = NotificationSendLog.builder()
+                .bodySnapshot("본문")
+                .titleSnapshot("공지")
+                .build();
+        when(sendLogRepository.findStaleIds(eq(NotificationSendStatus.PENDING), any(), any())).thenReturn(List.of(7));
+        when(sendLogRepository.claim(eq(7), eq(NotificationSendStatus.PENDING), any(), any())).thenReturn(1);
+        when(sendLogRepository.findById(7)).thenReturn(Optional.of(sendLog));
+        when(partitionRepository.existsBySendLogId(7)).thenReturn(false);
+
+        // when
+        job.recoverStale();
+
+        // then
+        verify(sendLogRepository).finish(eq(7), eq(NotificationSendStatus.FAILED), any(LocalDateTime.class));
+        verifyNoInteractions(broadcaster);
+    }
+
+    @Test
+    @DisplayName("이어받기: 다른 파드가 먼저 잡은 발송은 건너뛴다")
+    void recoverStale_claimedByOtherPod_skip() {
+        // given
+        when(sendLogRepository.findStaleIds(eq(NotificationSendStatus.PENDING), any(), any())).thenReturn(List.of(7));
+        when(sendLogRepository.claim(eq(7), eq(NotificationSendStatus.PENDING), any(), any())).thenReturn(0);
+
+        // when
+        job.recoverStale();
+
+        // then
+        verify(sendLogRepository, never()).findById(any());
+        verify(sendLogRepository, never()).finish(any(), any(), any());
+    }
+}
@@ -0,0 +1,107 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationOutbox;
+import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationOutboxStatus;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationOutboxRepository;
+import com.cherry.cherrybookerbe.notification.command.listener.ThreadReplyNotificationListener;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationCommandService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+    @Mock
+    private NotificationOutboxRepository outboxRepository;
+
+    @Mock
+    private NotificationCommandService notificationCommandService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        relay = new NotificationOutboxRelay(
+                outboxRepository,
+                notificationCommandService,
+                new ObjectMapper(),
+                transactionManager,
+                10,
+                3,
+                7
+        );
+    }
+
+    private NotificationOutbox replyOutbox(long id) {
+        NotificationOutbox outbox = NotificationOutbox.builder()
+                .eventType(ThreadReplyNotificationListener.EVENT_TYPE)
+                .payload("""
+                        {"rootThreadId":5,"threadOwnerUserId":1,"replyWriterUserId":2,"replyWriterNickname":"체리"}
+                        """)
+                .build();
+        ReflectionTestUtils.setField(outbox, "id", id);
+        return outbox;
+    }
+
+    @Test
+    @DisplayName("outbox 의 답글 이벤트로 알림을 만들고 완료 처리한다")
+    void relay_dispatchesAndMarksDone() {
+        // given
+        NotificationOutbox outbox = replyOutbox(1L);
+        when(outboxRepository.findPendingForUpdate(any(LocalDateTime.class), anyInt())).thenReturn(List.of(outbox));
+
+        // when
+        relay.relay();
+
+        // then
+        verify(notificationCommandService).notifyThreadReply(1, 5, "체리");
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.DONE);
+        assertThat(outbox.getProcessedAt()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("알림 생성이 실패하면 재시도를 예약하고, 최대 횟수에 도달하면 FAILED")
+    void relay_failure_schedulesRetryThenFails() {
+        // given
+        NotificationOutbox outbox = replyOutbox(2L);
+        when(outboxRepository.findPendingForUpdate(any(LocalDateTime.class), anyInt())).thenReturn(List.of(outbox));
+        doThrow(new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "EVENT_THREAD_REPLY 템플릿이 없습니다."))
+                .when(notificationCommandService).notifyThreadReply(1, 5, "체리");
+
+        // when
+        relay.relay();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.PENDING);
+        assertThat(outbox.getAttempts()).isEqualTo(1);
+        assertThat(outbox.getNextAttemptAt()).isAfter(LocalDateTime.now());
+
+        // when: 남은 시도도 모두 실패
+        relay.relay();
+        relay.relay();
+
+        // then
+        assertThat(outbox.getStatus()).isEqualTo(NotificationOutboxStatus.FAILED);
+        assertThat(outbox.getLastError()).contains("템플릿이 없습니다");
+    }
+}
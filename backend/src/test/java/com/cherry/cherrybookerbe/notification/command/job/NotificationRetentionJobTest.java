@@ -0,0 +1,74 @@
+package com.cherry.cherrybookerbe.notification.command.job;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("오래된 읽은 알림을 배치마다 아카이브 후 삭제하고, 실행당 처리 건수를 기록한다")
+    void run_archivesAndDeletesInBatches() {
+        // given
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        NotificationRetentionJob job = new NotificationRetentionJob(
+                notificationJdbcRepository, transactionManager, registry, 90, 2, true);
+
+        when(notificationJdbcRepository.findReadIdsCreatedBefore(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1, 2), List.of(3));
+        when(notificationJdbcRepository.deleteByIds(List.of(1, 2))).thenReturn(2);
+        when(notificationJdbcRepository.deleteByIds(List.of(3))).thenReturn(1);
+
+        // when
+        int removed = job.run();
+
+        // then
+        assertThat(removed).isEqualTo(3);
+        verify(notificationJdbcRepository).archiveByIds(List.of(1, 2));
+        verify(notificationJdbcRepository).archiveByIds(List.of(3));
+        verify(transactionManager, times(2)).commit(any());
+
+        assertThat(registry.get("notification.retention.rows").counter().count()).isEqualTo(3.0);
+        assertThat(registry.get("notification.retention.rows.per.run").summary().totalAmount()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("archive=false 면 아카이브 없이 삭제만 한다")
+    void run_deleteOnly() {
+        // given
+        NotificationRetentionJob job = new NotificationRetentionJob(
+                notificationJdbcRepository, transactionManager, new SimpleMeterRegistry(), 90, 500, false);
+
+        when(notificationJdbcRepository.findReadIdsCreatedBefore(any(LocalDateTime.class), eq(500)))
+                .thenReturn(List.of(7));
+        when(notificationJdbcRepository.deleteByIds(List.of(7))).thenReturn(1);
+
+        // when
+        int removed = job.run();
+
+        // then
+        assertThat(removed).isEqualTo(1);
+        verify(notificationJdbcRepository, never()).archiveByIds(anyList());
+    }
+}
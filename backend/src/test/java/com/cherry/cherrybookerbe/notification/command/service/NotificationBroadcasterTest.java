@@ -0,0 +1,157 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationChunkCreatedEvent;
+import com.cherry.cherrybookerbe.notification.command.event.NotificationCreatedEvent;
+import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationBroadcasterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private NotificationNoticeService noticeService;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NotificationBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        broadcaster = new NotificationBroadcaster(
+                userRepository,
+                notificationJdbcRepository,
+                unreadCounter,
+                eventPublisher,
+                noticeService,
+                transactionManager,
+                2,
+                "fan-out-on-write"
+        );
+    }
+
+    @Test
+    @DisplayName("구간 발송: 유저를 청크 단위로 나눠 저장/커밋하고, 미읽음 카운터는 청크당 한 번만 갱신/조회한다")
+    void broadcastRange_insertsPerChunkAndCountsUnreadPerChunk() {
+        // given
+        when(userRepository.findUserIdsInRange(eq(0), eq(Integer.MAX_VALUE), any(Pageable.class))).thenReturn(List.of(1, 2));
+        when(userRepository.findUserIdsInRange(eq(2), eq(Integer.MAX_VALUE), any(Pageable.class))).thenReturn(List.of(3));
+
+        when(notificationJdbcRepository.insertAll(eq(List.of(1, 2)), anyString(), anyString(), any()))
+                .thenReturn(List.of(101, 102));
+        when(notificationJdbcRepository.insertAll(eq(List.of(3)), anyString(), anyString(), any()))
+                .thenReturn(List.of(103));
+
+        when(unreadCounter.getAll(List.of(1, 2))).thenReturn(Map.of(1, 4L, 2, 1L));
+        when(unreadCounter.getAll(List.of(3))).thenReturn(Map.of(3, 1L));
+
+        List<int[]> progress = new ArrayList<>();
+
+        // when
+        int saved = broadcaster.broadcastRange(null, "공지", "점검 안내", 0, Integer.MAX_VALUE,
+                (lastUserId, sent, failed) -> progress.add(new int[]{lastUserId, sent, failed}));
+
+        // then
+        assertThat(saved).isEqualTo(3);
+        assertThat(progress).containsExactly(new int[]{2, 2, 0}, new int[]{3, 1, 0});
+        verify(transactionManager, times(2)).commit(any());
+        verify(unreadCounter).incrementAll(List.of(1, 2));
+        verify(unreadCounter).incrementAll(List.of(3));
+
+        // SSE 발행 이벤트도 청크당 한 번
+        ArgumentCaptor<NotificationChunkCreatedEvent> captor = ArgumentCaptor.forClass(NotificationChunkCreatedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(captor.capture());
+
+        List<NotificationCreatedEvent> events = captor.getAllValues().stream()
+                .flatMap(chunk -> chunk.events().stream())
+                .toList();
+        assertThat(captor.getAllValues().get(0).events()).hasSize(2);
+        assertThat(events)
+                .extracting(NotificationCreatedEvent::getNotificationId)
+                .containsExactly(101, 102, 103);
+        assertThat(events)
+                .extracting(NotificationCreatedEvent::getUnreadCount)
+                .containsExactly(4L, 1L, 1L);
+    }
+
+    @Test
+    @DisplayName("fan-out-on-read 모드: 유저별 행 없이 공지 1건만 저장한다")
+    void publishNotice_fanOutOnRead_storesNoticeOnly() {
+        // given
+        NotificationBroadcaster onRead = new NotificationBroadcaster(
+                userRepository,
+                notificationJdbcRepository,
+                unreadCounter,
+                eventPublisher,
+                noticeService,
+                transactionManager,
+                2,
+                "fan-out-on-read"
+        );
+
+        // when
+        onRead.publishNotice("공지", "점검 안내");
+
+        // then
+        assertThat(onRead.isFanOutOnRead()).isTrue();
+        verify(noticeService).publish("공지", "점검 안내");
+        verifyNoInteractions(userRepository, notificationJdbcRepository, unreadCounter, eventPublisher);
+    }
+
+    @Test
+    @DisplayName("구간 발송: 실패한 청크는 실패로 세고 다음 청크를 계속 처리한다")
+    void broadcastRange_failedChunk_countsFailedAndContinues() {
+        // given
+        when(userRepository.findUserIdsInRange(eq(10), eq(20), any(Pageable.class))).thenReturn(List.of(11, 12));
+        when(userRepository.findUserIdsInRange(eq(12), eq(20), any(Pageable.class))).thenReturn(List.of(13));
+
+        when(notificationJdbcRepository.insertAll(eq(List.of(11, 12)), anyString(), anyString(), any()))
+                .thenThrow(new IllegalStateException("deadlock"));
+        when(notificationJdbcRepository.insertAll(eq(List.of(13)), anyString(), anyString(), any()))
+                .thenReturn(List.of(201));
+        when(unreadCounter.getAll(List.of(13))).thenReturn(Map.of(13, 1L));
+
+        List<int[]> progress = new ArrayList<>();
+
+        // when
+        int saved = broadcaster.broadcastRange(9, "공지", "점검 안내", 10, 20,
+                (lastUserId, sent, failed) -> progress.add(new int[]{lastUserId, sent, failed}));
+
+        // then: 실패한 청크도 커서는 넘긴다
+        assertThat(saved).isEqualTo(1);
+        assertThat(progress).containsExactly(new int[]{12, 0, 2}, new int[]{13, 1, 0});
+        verify(eventPublisher, times(1)).publishEvent(any(NotificationChunkCreatedEvent.class));
+    }
+}
@@ -8,6 +8,7 @@ import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationT
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationTemplateRepository;
+import com.cherry.cherrybookerbe.notification.command.dto.request.NotificationBroadcastRequest;
 import com.cherry.cherrybookerbe.notification.command.dto.request.NotificationSendRequest;
 import com.cherry.cherrybookerbe.notification.command.dto.request.NotificationTemplateCreateRequest;
 import com.cherry.cherrybookerbe.notification.command.dto.request.NotificationTemplateUpdateRequest;
@@ -15,13 +16,17 @@ import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationD
 import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationTemplateResponse;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationCreatedEvent;
 import com.cherry.cherrybookerbe.notification.command.event.NotificationReadEvent;
-import com.cherry.cherrybookerbe.user.command.repository.UserRepository;
+import com.cherry.cherrybookerbe.notification.command.job.NotificationBroadcastJob;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateCache;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateRenderer;
+import com.cherry.cherrybookerbe.notification.command.template.NotificationTemplateSnapshot;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
@@ -31,7 +36,6 @@ import org.springframework.transaction.support.TransactionSynchronizationManager
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -55,7 +59,19 @@ class NotificationCommandServiceTest {
     private ApplicationEventPublisher eventPublisher;
 
     @Mock
-    private UserRepository userRepository; // ✅ 추가 (서비스 생성자 의존성)
+    private NotificationBroadcastJob broadcastJob;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounter;
+
+    @Mock
+    private NotificationTemplateCache templateCache;
+
+    @Mock
+    private NotificationNoticeInbox noticeInbox;
+
+    @Spy
+    private NotificationTemplateRenderer templateRenderer = new NotificationTemplateRenderer();
 
     @InjectMocks
     private NotificationCommandService notificationCommandService;
@@ -121,6 +137,7 @@ class NotificationCommandServiceTest {
         assertThat(response.getTemplateId()).isEqualTo(1);
         assertThat(response.getTitle()).isEqualTo("수정된 제목");
         assertThat(response.getTemplateType()).isEqualTo(NotificationTemplateType.EVENT_THREAD_REPLY);
+        verify(templateCache).invalidateAll();
     }
 
     @Test
@@ -141,6 +158,7 @@ class NotificationCommandServiceTest {
 
         // then
         assertThat(template.isDeleted()).isTrue();
+        verify(templateCache).invalidateAll();
     }
 
     @Test
@@ -178,7 +196,8 @@ class NotificationCommandServiceTest {
                 .build();
         ReflectionTestUtils.setField(template, "id", 10);
 
-        when(templateRepository.findById(10)).thenReturn(Optional.of(template));
+        when(templateCache.findById(10)).thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
+        when(templateRepository.getReferenceById(10)).thenReturn(template);
 
         NotificationSendRequest request = NotificationSendRequest.builder()
                 .targetUserId(1)
@@ -195,7 +214,7 @@ class NotificationCommandServiceTest {
 
         when(notificationRepository.save(any(Notification.class))).thenReturn(savedNotification);
         // flush()는 void라 별도 stubbing 불필요하지만, 호출 검증은 가능
-        when(notificationRepository.countByUserIdAndReadFalse(1)).thenReturn(5L);
+        when(unreadCounter.increment(1)).thenReturn(5L);
         when(sendLogRepository.save(any(NotificationSendLog.class)))
                 .thenAnswer(invocation -> invocation.getArgument(0));
 
@@ -260,7 +279,7 @@ class NotificationCommandServiceTest {
         ReflectionTestUtils.setField(template, "id", 1);
         template.markDeleted();
 
-        when(templateRepository.findById(1)).thenReturn(Optional.of(template));
+        when(templateCache.findById(1)).thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
 
         NotificationSendRequest request = NotificationSendRequest.builder()
                 .targetUserId(1)
@@ -273,6 +292,161 @@ class NotificationCommandServiceTest {
                 .isEqualTo(HttpStatus.BAD_REQUEST);
     }
 
+    @Test
+    @DisplayName("관리자 발송: 요청에 없는 템플릿 변수는 {{key}} 그대로 남겨서 발송한다")
+    void sendByTemplate_missingVariable_keepsPlaceholder() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("신고 {{count}}건 발생")
+                .body("{{nickname}}님, 새로운 신고가 있습니다.")
+                .type(NotificationTemplateType.SYSTEM)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 11);
+
+        when(templateCache.findById(11)).thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
+        when(templateRepository.getReferenceById(11)).thenReturn(template);
+
+        Notification saved = Notification.builder().userId(1).title("t").content("c").build();
+        ReflectionTestUtils.setField(saved, "id", 110);
+        when(notificationRepository.save(any(Notification.class))).thenReturn(saved);
+
+        NotificationSendRequest request = NotificationSendRequest.builder()
+                .targetUserId(1)
+                .variables(Map.of("count", "3"))
+                .build();
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            notificationCommandService.sendByTemplate(11, request);
+
+            // then
+            ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+            verify(notificationRepository).save(captor.capture());
+            assertThat(captor.getValue().getTitle()).isEqualTo("신고 3건 발생");
+            assertThat(captor.getValue().getContent()).isEqualTo("{{nickname}}님, 새로운 신고가 있습니다.");
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("답변 알림: 이벤트 템플릿에 서버가 채우지 않는 변수가 있으면 발송하지 않고 실패한다(outbox 재시도)")
+    void notifyThreadReply_unknownVariable_throwsAndDoesNotSave() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("답변 알림")
+                .body("{{writerNickname}} 님이 {{threadTitle}} 에 답변을 남겼습니다.")
+                .type(NotificationTemplateType.EVENT_THREAD_REPLY)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 31);
+
+        when(templateCache.findByType(NotificationTemplateType.EVENT_THREAD_REPLY))
+                .thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
+
+        // when & then
+        assertThatThrownBy(() -> notificationCommandService.notifyThreadReply(2, 5, "체리"))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.INTERNAL_SERVER_ERROR);
+
+        verify(notificationRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("전체 발송: PENDING 발송 로그를 남기고 치환한 제목/본문으로 비동기 잡을 등록한다")
+    void sendToAllByTemplate_savesPendingLogAndSubmitsJob() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("{{season}} 공지")
+                .body("{{season}} 이벤트가 시작되었습니다.")
+                .type(NotificationTemplateType.SYSTEM)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 20);
+
+        when(templateCache.findById(20)).thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
+        when(templateRepository.getReferenceById(20)).thenReturn(template);
+        when(sendLogRepository.save(any(NotificationSendLog.class))).thenAnswer(inv -> {
+            NotificationSendLog log = inv.getArgument(0);
+            ReflectionTestUtils.setField(log, "id", 77);
+            return log;
+        });
+
+        NotificationBroadcastRequest request = new NotificationBroadcastRequest();
+        ReflectionTestUtils.setField(request, "variables", Map.of("season", "봄"));
+
+        // when
+        Integer sendLogId = notificationCommandService.sendToAllByTemplate(20, request);
+
+        // then
+        assertThat(sendLogId).isEqualTo(77);
+        verify(broadcastJob).submit(77, "봄 공지", "봄 이벤트가 시작되었습니다.");
+        verify(notificationRepository, never()).saveAll(any());
+
+        ArgumentCaptor<NotificationSendLog> logCaptor = ArgumentCaptor.forClass(NotificationSendLog.class);
+        verify(sendLogRepository).save(logCaptor.capture());
+        assertThat(logCaptor.getValue().getBodySnapshot()).isEqualTo("봄 이벤트가 시작되었습니다.");
+        assertThat(logCaptor.getValue().getStatus()).isEqualTo(NotificationSendStatus.PENDING);
+    }
+
+    @Test
+    @DisplayName("전체 발송: SYSTEM 이 아닌 템플릿은 BAD_REQUEST")
+    void sendToAllByTemplate_eventTemplate_throwsBadRequest() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("답변 알림")
+                .body("본문")
+                .type(NotificationTemplateType.EVENT_THREAD_REPLY)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 21);
+
+        when(templateCache.findById(21)).thenReturn(Optional.of(NotificationTemplateSnapshot.from(template)));
+
+        // when & then
+        assertThatThrownBy(() -> notificationCommandService.sendToAllByTemplate(21, null))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+
+        verifyNoInteractions(broadcastJob);
+    }
+
+    @Test
+    @DisplayName("답변 알림: 캐시된 EVENT_THREAD_REPLY 템플릿으로 발송하고 템플릿 테이블은 조회하지 않는다")
+    void notifyThreadReply_usesCachedTemplate() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("답변 알림")
+                .body("사용자 {{writerNickname}} 님이 스레드 {{threadId}} 에 답변을 남겼습니다.")
+                .type(NotificationTemplateType.EVENT_THREAD_REPLY)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 30);
+        NotificationTemplateSnapshot snapshot = NotificationTemplateSnapshot.from(template);
+
+        when(templateCache.findByType(NotificationTemplateType.EVENT_THREAD_REPLY)).thenReturn(Optional.of(snapshot));
+        when(templateRepository.getReferenceById(30)).thenReturn(template);
+
+        Notification saved = Notification.builder().userId(2).title("답변 알림").content("본문").build();
+        ReflectionTestUtils.setField(saved, "id", 300);
+        when(notificationRepository.save(any(Notification.class))).thenReturn(saved);
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            notificationCommandService.notifyThreadReply(2, 5, "체리");
+
+            // then
+            ArgumentCaptor<Notification> captor = ArgumentCaptor.forClass(Notification.class);
+            verify(notificationRepository).save(captor.capture());
+            assertThat(captor.getValue().getContent()).isEqualTo("사용자 체리 님이 스레드 5 에 답변을 남겼습니다.");
+
+            verify(templateRepository, never()).findById(any());
+            verify(templateRepository, never()).findByTypeAndDeletedFalse(any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
     // ============ 알림함 읽음 / 삭제 ============
 
     @Test
@@ -288,7 +462,7 @@ class NotificationCommandServiceTest {
         // read는 builder 기본 false
 
         when(notificationRepository.findById(100)).thenReturn(Optional.of(notification));
-        when(notificationRepository.countByUserIdAndReadFalse(1)).thenReturn(3L);
+        when(unreadCounter.decrement(1)).thenReturn(3L);
 
         TransactionSynchronizationManager.initSynchronization();
         try {
@@ -338,22 +512,16 @@ class NotificationCommandServiceTest {
     @DisplayName("알림함 - 모든 미읽음 알림을 읽음 처리하고 미읽음 개수를 이벤트로 발행한다")
     void markAllRead_marksAllUnreadAsReadAndPublishesEvent_afterCommit() {
         // given
-        Notification n1 = Notification.builder().userId(1).title("알림1").content("내용1").build();
-        Notification n2 = Notification.builder().userId(1).title("알림2").content("내용2").build();
-        ReflectionTestUtils.setField(n1, "id", 1);
-        ReflectionTestUtils.setField(n2, "id", 2);
-
-        when(notificationRepository.findByUserIdAndReadFalse(1)).thenReturn(List.of(n1, n2));
-        when(notificationRepository.countByUserIdAndReadFalse(1)).thenReturn(0L);
+        when(notificationRepository.markAllReadByUserId(1)).thenReturn(2);
 
         TransactionSynchronizationManager.initSynchronization();
         try {
             // when
-            notificationCommandService.markAllRead(1);
+            int updated = notificationCommandService.markAllRead(1);
 
-            // then
-            assertThat(n1.isRead()).isTrue();
-            assertThat(n2.isRead()).isTrue();
+            // then: 엔티티를 읽지 않고 UPDATE 한 번
+            assertThat(updated).isEqualTo(2);
+            verify(unreadCounter).reset(1);
 
             for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
                 sync.afterCommit();
@@ -366,6 +534,7 @@ class NotificationCommandServiceTest {
             NotificationReadEvent event = eventCaptor.getValue();
             assertThat(event.getUserId()).isEqualTo(1);
             assertThat(event.getUnreadCount()).isEqualTo(0L);
+            verify(notificationRepository, never()).countByUserIdAndReadFalse(any());
         } finally {
             TransactionSynchronizationManager.clearSynchronization();
         }
@@ -375,13 +544,15 @@ class NotificationCommandServiceTest {
     @DisplayName("알림함 - 미읽음 알림이 없으면 아무 작업도 하지 않는다")
     void markAllRead_noUnread_doNothing() {
         // given
-        when(notificationRepository.findByUserIdAndReadFalse(1)).thenReturn(List.of());
+        when(notificationRepository.markAllReadByUserId(1)).thenReturn(0);
 
         // when
-        notificationCommandService.markAllRead(1);
+        int updated = notificationCommandService.markAllRead(1);
 
         // then
+        assertThat(updated).isZero();
         verify(notificationRepository, never()).countByUserIdAndReadFalse(any());
+        verifyNoInteractions(unreadCounter);
         verify(eventPublisher, never()).publishEvent(any());
     }
 
@@ -397,12 +568,28 @@ class NotificationCommandServiceTest {
         ReflectionTestUtils.setField(notification, "id", 100);
 
         when(notificationRepository.findById(100)).thenReturn(Optional.of(notification));
+        when(unreadCounter.decrement(1)).thenReturn(2L);
 
-        // when
-        notificationCommandService.deleteNotification(1, 100);
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            notificationCommandService.deleteNotification(1, 100);
 
-        // then
-        verify(notificationRepository).delete(notification);
+            // then
+            verify(notificationRepository).delete(notification);
+
+            // 읽지 않은 알림이었으므로 미읽음 카운트 감소 후 이벤트 발행
+            for (TransactionSynchronization sync : TransactionSynchronizationManager.getSynchronizations()) {
+                sync.afterCommit();
+            }
+
+            ArgumentCaptor<NotificationReadEvent> eventCaptor =
+                    ArgumentCaptor.forClass(NotificationReadEvent.class);
+            verify(eventPublisher).publishEvent(eventCaptor.capture());
+            assertThat(eventCaptor.getValue().getUnreadCount()).isEqualTo(2L);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -428,10 +615,15 @@ class NotificationCommandServiceTest {
     @Test
     @DisplayName("알림함 - 사용자는 읽은 알림들을 일괄 삭제할 수 있다")
     void deleteAllRead_deletesAllReadNotifications() {
+        // given: 첫 청크는 꽉 차고(1000) 두 번째 청크에서 끝남
+        when(notificationRepository.deleteReadByUserIdLimit(1, 1000)).thenReturn(1000, 234);
+
         // when
-        notificationCommandService.deleteAllRead(1);
+        long deleted = notificationCommandService.deleteAllRead(1);
 
         // then
-        verify(notificationRepository).deleteByUserIdAndReadTrue(1);
+        assertThat(deleted).isEqualTo(1234L);
+        verify(notificationRepository, times(2)).deleteReadByUserIdLimit(1, 1000);
+        verifyNoInteractions(unreadCounter);
     }
 }
@@ -0,0 +1,81 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.event.NotificationNoticeCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationNoticeInboxTest {
+
+    @Mock
+    private NotificationNoticeService noticeService;
+
+    private NotificationNoticeInbox inbox(String mode) {
+        return new NotificationNoticeInbox(noticeService, mode, 60_000);
+    }
+
+    @Test
+    @DisplayName("fan-out-on-write 모드: 공지를 옮기지 않고 DB 도 보지 않는다")
+    void sync_fanOutOnWrite_doNothing() {
+        // when
+        inbox("fan-out-on-write").sync(1);
+
+        // then
+        verifyNoInteractions(noticeService);
+    }
+
+    @Test
+    @DisplayName("이미 최신 공지까지 옮긴 유저는 두 번째 조회부터 쿼리 없이 끝난다")
+    void sync_upToDateUser_noQuery() {
+        // given
+        NotificationNoticeInbox inbox = inbox("fan-out-on-read");
+        when(noticeService.findLatestNoticeId()).thenReturn(5);
+
+        // when
+        inbox.sync(1);
+        inbox.sync(1);
+        inbox.sync(1);
+
+        // then: 최신 id 1번 + 옮기기 1번
+        verify(noticeService, times(1)).findLatestNoticeId();
+        verify(noticeService, times(1)).materialize(1, 5);
+    }
+
+    @Test
+    @DisplayName("새 공지가 등록되면 최신 id 를 올리고 다음 조회에서 그 공지까지 옮긴다")
+    void sync_afterNoticeCreated_materializesNewNotice() {
+        // given
+        NotificationNoticeInbox inbox = inbox("fan-out-on-read");
+        when(noticeService.findLatestNoticeId()).thenReturn(5);
+        inbox.sync(1);
+
+        // when
+        inbox.onNoticeCreated(new NotificationNoticeCreatedEvent(6, "공지", "점검 안내", LocalDateTime.now()));
+        inbox.sync(1);
+
+        // then
+        verify(noticeService).materialize(1, 6);
+    }
+
+    @Test
+    @DisplayName("공지가 하나도 없으면 옮기기를 호출하지 않는다")
+    void sync_noNotice_skipMaterialize() {
+        // given
+        NotificationNoticeInbox inbox = inbox("fan-out-on-read");
+        when(noticeService.findLatestNoticeId()).thenReturn(0);
+
+        // when
+        inbox.sync(1);
+
+        // then
+        verify(noticeService, never()).materialize(anyInt(), anyInt());
+    }
+}
@@ -0,0 +1,101 @@
+package com.cherry.cherrybookerbe.notification.command.service;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationJdbcRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationNoticeRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationNoticeWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationNoticeServiceTest {
+
+    @Mock
+    private NotificationNoticeRepository noticeRepository;
+
+    @Mock
+    private NotificationNoticeWatermarkRepository watermarkRepository;
+
+    @Mock
+    private NotificationJdbcRepository notificationJdbcRepository;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private NotificationNoticeService noticeService;
+
+    @BeforeEach
+    void setUp() {
+        noticeService = new NotificationNoticeService(
+                noticeRepository,
+                watermarkRepository,
+                notificationJdbcRepository,
+                unreadCounter,
+                eventPublisher,
+                30
+        );
+    }
+
+    @Test
+    @DisplayName("공지 지연 생성: 워터마크가 최신이면 잠금/INSERT 없이 끝난다")
+    void materialize_upToDate_doNothing() {
+        // given
+        when(watermarkRepository.findLastNoticeId(1)).thenReturn(Optional.of(5));
+
+        // when
+        int inserted = noticeService.materialize(1, 5);
+
+        // then
+        assertThat(inserted).isZero();
+        verify(watermarkRepository, never()).lockLastNoticeId(anyInt());
+        verifyNoInteractions(notificationJdbcRepository, unreadCounter);
+    }
+
+    @Test
+    @DisplayName("공지 지연 생성: 워터마크 이후 공지를 내 알림으로 옮기고 미읽음 카운터를 그만큼 올린다")
+    void materialize_behind_insertsAndAdvancesWatermark() {
+        // given
+        when(watermarkRepository.findLastNoticeId(1)).thenReturn(Optional.of(4));
+        when(watermarkRepository.lockLastNoticeId(1)).thenReturn(4);
+        when(notificationJdbcRepository.materializeNotices(eq(1), eq(4), eq(7), any())).thenReturn(3);
+
+        // when
+        int inserted = noticeService.materialize(1, 7);
+
+        // then
+        assertThat(inserted).isEqualTo(3);
+        verify(watermarkRepository).updateLastNoticeId(1, 7);
+        verify(unreadCounter).incrementBy(1, 3);
+    }
+
+    @Test
+    @DisplayName("공지 지연 생성: 잠금 후 다시 보니 다른 요청이 이미 옮겼으면 INSERT 하지 않는다")
+    void materialize_concurrentlyMaterialized_skip() {
+        // given
+        when(watermarkRepository.findLastNoticeId(1)).thenReturn(Optional.empty());
+        when(watermarkRepository.lockLastNoticeId(1)).thenReturn(7);
+
+        // when
+        int inserted = noticeService.materialize(1, 7);
+
+        // then
+        assertThat(inserted).isZero();
+        verify(watermarkRepository).insertIfAbsent(1);
+        verifyNoInteractions(notificationJdbcRepository, unreadCounter);
+    }
+}
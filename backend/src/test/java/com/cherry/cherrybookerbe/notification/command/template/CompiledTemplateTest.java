@@ -0,0 +1,51 @@
+package com.cherry.cherrybookerbe.notification.command.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CompiledTemplateTest {
+
+    @Test
+    @DisplayName("같은 변수가 여러 번 나와도 한 번의 순회로 모두 치환한다")
+    void render_replacesAllPlaceholders() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("{{name}}님, {{name}}님의 스레드 {{threadId}} 에 답변");
+
+        // when
+        String rendered = template.render(Map.of("name", "체리", "threadId", "7"));
+
+        // then
+        assertThat(rendered).isEqualTo("체리님, 체리님의 스레드 7 에 답변");
+        assertThat(template.variableNames()).containsExactly("name", "threadId");
+    }
+
+    @Test
+    @DisplayName("요청에 없는 변수를 찾아내고, null 값은 빈 문자열로 치환한다")
+    void missingVariables_andNullValue() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("{{a}}-{{b}}-{{c}}");
+        Map<String, String> vars = new HashMap<>();
+        vars.put("a", "1");
+        vars.put("b", null);
+
+        // when & then
+        assertThat(template.missingVariables(vars)).containsExactly("c");
+        assertThat(template.render(vars)).isEqualTo("1--{{c}}");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 placeholder 는 리터럴로 남긴다")
+    void compile_unclosedPlaceholder() {
+        // given
+        CompiledTemplate template = CompiledTemplate.compile("공지 {{season");
+
+        // when & then
+        assertThat(template.variableNames()).isEmpty();
+        assertThat(template.render(Map.of("season", "봄"))).isEqualTo("공지 {{season");
+    }
+}
@@ -2,14 +2,17 @@ package com.cherry.cherrybookerbe.notification.query.service;
 
 import com.cherry.cherrybookerbe.common.dto.Pagination;
 import com.cherry.cherrybookerbe.notification.command.domain.entity.Notification;
+import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLatency;
 import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationSendLog;
 import com.cherry.cherrybookerbe.notification.command.domain.entity.NotificationTemplate;
 import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationSendStatus;
 import com.cherry.cherrybookerbe.notification.command.domain.enums.NotificationTemplateType;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLatencyRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
 import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationTemplateRepository;
 import com.cherry.cherrybookerbe.notification.command.dto.response.NotificationTemplateResponse;
+import com.cherry.cherrybookerbe.notification.command.service.NotificationUnreadCounterService;
 import com.cherry.cherrybookerbe.notification.query.dto.response.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -19,7 +22,9 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.*;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -39,6 +44,12 @@ class NotificationQueryServiceTest {
     @Mock
     private NotificationSendLogRepository sendLogRepository;
 
+    @Mock
+    private NotificationSendLatencyRepository latencyRepository;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounter;
+
     @InjectMocks
     private NotificationQueryService notificationQueryService;
 
@@ -93,11 +104,60 @@ class NotificationQueryServiceTest {
         assertThat(used.getSort().getOrderFor("createdAt").getDirection()).isEqualTo(Sort.Direction.DESC);
     }
 
+    @Test
+    @DisplayName("알림함 커서 목록: size 보다 하나 더 조회되면 마지막 항목 기준 nextCursor 를 돌려준다")
+    void getMyNotificationsByCursor_firstPage_returnsNextCursor() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        Notification n1 = Notification.builder().userId(1).title("알림1").content("내용1").build();
+        Notification n2 = Notification.builder().userId(1).title("알림2").content("내용2").build();
+        Notification n3 = Notification.builder().userId(1).title("알림3").content("내용3").build();
+        ReflectionTestUtils.setField(n1, "id", 30);
+        ReflectionTestUtils.setField(n1, "createdAt", now);
+        ReflectionTestUtils.setField(n2, "id", 20);
+        ReflectionTestUtils.setField(n2, "createdAt", now.minusMinutes(1));
+        ReflectionTestUtils.setField(n3, "id", 10);
+        ReflectionTestUtils.setField(n3, "createdAt", now.minusMinutes(2));
+
+        when(notificationRepository.findLatestByUserId(eq(1), any(Pageable.class))).thenReturn(List.of(n1, n2, n3));
+
+        // when
+        NotificationCursorResponse response = notificationQueryService.getMyNotificationsByCursor(1, null, 2);
+
+        // then
+        assertThat(response.getNotifications())
+                .extracting(NotificationSummaryResponse::getNotificationId)
+                .containsExactly(30, 20);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getNextCursor()).isNotBlank();
+        verify(notificationRepository, never()).findByUserIdOrderByCreatedAtDesc(any(), any());
+
+        // 다음 페이지 요청 시 마지막 항목의 (createdAt, id) 로 seek
+        when(notificationRepository.findByUserIdBefore(eq(1), any(LocalDateTime.class), any(Integer.class), any(Pageable.class)))
+                .thenReturn(List.of(n3));
+
+        NotificationCursorResponse next =
+                notificationQueryService.getMyNotificationsByCursor(1, response.getNextCursor(), 2);
+
+        verify(notificationRepository).findByUserIdBefore(eq(1), eq(now.minusMinutes(1)), eq(20), any(Pageable.class));
+        assertThat(next.isHasNext()).isFalse();
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("알림함 커서 목록: 해석할 수 없는 커서는 BAD_REQUEST")
+    void getMyNotificationsByCursor_invalidCursor_throwsBadRequest() {
+        assertThatThrownBy(() -> notificationQueryService.getMyNotificationsByCursor(1, "not-a-cursor", 10))
+                .isInstanceOf(ResponseStatusException.class)
+                .extracting("statusCode")
+                .isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     @DisplayName("알림함 미읽음 개수: 사용자는 자신의 미읽음 알림 개수를 조회할 수 있다")
     void getMyUnreadCount_returnsUnreadCount() {
         // given
-        when(notificationRepository.countByUserIdAndReadFalse(1)).thenReturn(3L);
+        when(unreadCounter.get(1)).thenReturn(3L);
 
         // when
         long count = notificationQueryService.getMyUnreadCount(1);
@@ -218,4 +278,55 @@ class NotificationQueryServiceTest {
         Pagination pagination = response.getPagination();
         assertThat(pagination.getTotalItems()).isEqualTo(1);
     }
+
+    @Test
+    @DisplayName("발송 로그 조회: 배달 집계와 지연 버킷으로 배달률, p50/p99 를 계산한다")
+    void getSendLogs_reportsDeliveryRateAndLatencyPercentiles() {
+        // given
+        NotificationTemplate template = NotificationTemplate.builder()
+                .title("공지")
+                .body("본문")
+                .type(NotificationTemplateType.SYSTEM)
+                .build();
+        ReflectionTestUtils.setField(template, "id", 11);
+
+        NotificationSendLog log1 = NotificationSendLog.builder()
+                .template(template)
+                .status(NotificationSendStatus.SUCCESS)
+                .bodySnapshot("본문")
+                .totalCount(100)
+                .sentCount(100)
+                .build();
+        ReflectionTestUtils.setField(log1, "id", 200);
+        ReflectionTestUtils.setField(log1, "pushedCount", 80);
+        ReflectionTestUtils.setField(log1, "droppedCount", 5);
+
+        when(sendLogRepository.findAllByOrderBySentAtDesc(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(log1), PageRequest.of(0, 10), 1));
+        List<NotificationSendLatency> buckets = List.of(
+                latency(200, 10, 50),
+                latency(200, 100, 45),
+                latency(200, 1_000, 5)
+        );
+        when(latencyRepository.findBySendLogIdIn(List.of(200))).thenReturn(buckets);
+
+        // when
+        NotificationSendLogResponse item = notificationQueryService.getSendLogs(0, 10).getLogs().get(0);
+
+        // then
+        assertThat(item.getPushedCount()).isEqualTo(80);
+        assertThat(item.getDroppedCount()).isEqualTo(5);
+        assertThat(item.getOfflineCount()).isEqualTo(15);
+        assertThat(item.getDeliveryRate()).isEqualTo(0.8);
+        assertThat(item.getP50LatencyMs()).isEqualTo(10L);
+        assertThat(item.getP99LatencyMs()).isEqualTo(1_000L);
+    }
+
+    private NotificationSendLatency latency(Integer sendLogId, long bucketMs, long count) {
+        NotificationSendLatency bucket = mock(NotificationSendLatency.class);
+        when(bucket.getSendLogId()).thenReturn(sendLogId);
+        when(bucket.getBucketMs()).thenReturn(bucketMs);
+        when(bucket.getCount()).thenReturn(count);
+        return bucket;
+    }
 }
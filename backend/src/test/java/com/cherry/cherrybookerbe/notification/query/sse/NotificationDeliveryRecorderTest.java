@@ -0,0 +1,103 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLatencyRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryRecorderTest {
+
+    @Mock
+    private NotificationSendLogRepository sendLogRepository;
+
+    @Mock
+    private NotificationSendLatencyRepository latencyRepository;
+
+    private NotificationDeliveryRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new NotificationDeliveryRecorder(sendLogRepository, latencyRepository, new SimpleMeterRegistry(), 5000);
+    }
+
+    @Test
+    @DisplayName("여러 탭에 넣은 같은 알림은 한 번만 pushed 로 세고, 주기적으로 발송 로그와 지연 버킷에 누적한다")
+    void pushedOnce_flushesDeliveryAndLatency() {
+        // given
+        NotificationDeliveryRecorder.Tracker tracker = recorder.track(notification(7), 2);
+
+        // when
+        tracker.pushed(System.currentTimeMillis());
+        tracker.pushed(System.currentTimeMillis());
+        recorder.flush();
+
+        // then
+        verify(sendLogRepository).addDelivery(7, 1, 0);
+        verify(latencyRepository).addCount(eq(7), anyLong(), eq(1L));
+    }
+
+    @Test
+    @DisplayName("모든 연결에서 큐 넘침/종료로 잃은 알림은 dropped 로 센다")
+    void lostOnAllConnections_countsDropped() {
+        // given
+        NotificationDeliveryRecorder.Tracker tracker = recorder.track(notification(8), 1);
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 1);
+        connection.offer(1L, "NOTIFICATION", "a", tracker);
+
+        // when: 큐가 가득 차 가장 오래된 이벤트가 밀려남
+        connection.offer(2L, "NOTIFICATION", "b");
+        recorder.flush();
+
+        // then
+        verify(sendLogRepository).addDelivery(8, 0, 1);
+        verifyNoInteractions(latencyRepository);
+    }
+
+    @Test
+    @DisplayName("발송 로그 id 가 없는 알림은 추적하지 않고, 집계가 없으면 DB 에 쓰지 않는다")
+    void withoutSendLog_notTracked() {
+        // given
+        ObjectNode data = new ObjectMapper().createObjectNode().put("notificationId", 1);
+
+        // when
+        NotificationDeliveryRecorder.Tracker tracker = recorder.track(data, 1);
+        recorder.flush();
+
+        // then
+        assertThat(tracker).isNull();
+        verify(sendLogRepository, never()).addDelivery(anyInt(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("지연은 상한 버킷에 담기고, 가장 큰 버킷을 넘으면 마지막 버킷에 담긴다")
+    void bucketOf() {
+        assertThat(NotificationDeliveryRecorder.bucketOf(0)).isZero();
+        assertThat(NotificationDeliveryRecorder.bucketOf(10)).isZero();
+        assertThat(NotificationDeliveryRecorder.bucketOf(11)).isEqualTo(1);
+        assertThat(NotificationDeliveryRecorder.bucketOf(10 * 60_000))
+                .isEqualTo(NotificationDeliveryRecorder.LATENCY_BUCKETS_MS.length - 1);
+    }
+
+    private ObjectNode notification(int sendLogId) {
+        return new ObjectMapper().createObjectNode()
+                .put("sendLogId", sendLogId)
+                .put("createdAt", LocalDateTime.now().minusNanos(5_000_000).toString());
+    }
+}
@@ -0,0 +1,262 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLatencyRepository;
+import com.cherry.cherrybookerbe.notification.command.domain.repository.NotificationSendLogRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.http.codec.ServerSentEvent;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationReactiveStreamsTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Mock
+    private ReactiveRedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private NotificationStreamReplayBuffer replayBuffer;
+
+    @Mock
+    private NotificationSendLogRepository sendLogRepository;
+
+    @Mock
+    private NotificationSendLatencyRepository latencyRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationDeliveryRecorder deliveryRecorder;
+
+    private NotificationReactiveStreams streams;
+
+    @BeforeEach
+    void setUp() {
+        deliveryRecorder = new NotificationDeliveryRecorder(
+                sendLogRepository, latencyRepository, new SimpleMeterRegistry(), 5000);
+        // 하트비트는 테스트 중에 끼어들지 않도록 길게, 구독자 버퍼는 넘침을 보기 쉽게 작게
+        streams = new NotificationReactiveStreams(listenerContainer, replayBuffer, deliveryRecorder,
+                objectMapper, "notification:stream", false, 2, 3_600_000);
+    }
+
+    // 발송 로그에 묶인 NOTIFICATION 이벤트 본문
+    private ObjectNode notification(int sendLogId) {
+        ObjectNode node = objectMapper.createObjectNode();
+        node.put("sendLogId", sendLogId);
+        node.put("createdAt", LocalDateTime.now().toString());
+        return node;
+    }
+
+    private static boolean isEvent(ServerSentEvent<Object> event, String name, String id) {
+        return name.equals(event.event()) && (id == null ? event.id() == null : id.equals(event.id()));
+    }
+
+    private static NotificationStreamMessage message(long id) {
+        return new NotificationStreamMessage(id, 1L, "NOTIFICATION", TextNode.valueOf("n" + id));
+    }
+
+    // 라이브 구독(sink 구독)이 실제로 붙을 때까지 기다린다
+    private void awaitSubscribed(Long userId) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (streams.subscriberCount(userId) == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("stream not subscribed: " + userId);
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    @Test
+    @DisplayName("연결하면 INIT 을 먼저 보내고 이후 라이브 이벤트를 id 와 함께 전달한다")
+    void stream_initThenLive() {
+        StepVerifier.create(streams.stream(1L))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    streams.sendToUser(1L, 1L, "NOTIFICATION", "hi");
+                })
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "1") && "hi".equals(event.data()))
+                .thenCancel()
+                .verify(TIMEOUT);
+
+        verify(replayBuffer).open(1L);
+    }
+
+    @Test
+    @DisplayName("느린 구독자는 버퍼가 넘치면 오래된 이벤트부터 버리고 최신 이벤트는 받는다")
+    void stream_slowSubscriber_dropsOldest() {
+        StepVerifier.create(streams.stream(1L), 1)
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    for (long id = 1; id <= 40; id++) {
+                        streams.sendToUser(1L, id, "NOTIFICATION", "n" + id);
+                    }
+                })
+                .thenRequest(Long.MAX_VALUE)
+                .recordWith(ArrayList::new)
+                .thenConsumeWhile(event -> !"40".equals(event.id()))
+                .consumeRecordedWith(received -> {
+                    List<String> ids = received.stream().map(ServerSentEvent::id).toList();
+                    // 요청 없이 쌓인 이벤트 중 일부는 버려졌고, 버려진 것은 가장 최근 것이 아님
+                    assertThat(ids).hasSizeLessThan(39);
+                    assertThat(ids).startsWith("1").endsWith("39");
+                })
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "40"))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 재연결: 리플레이 뒤에 라이브를 잇고, 리플레이 중 들어온 같은 id 는 한 번만 보낸다")
+    void stream_replayThenLive_withoutDuplicates() {
+        // given: 리플레이를 읽는 동안 라이브로 6, 7 이 도착 (6 은 리플레이에도 있음)
+        when(replayBuffer.replay(1L, "4")).thenAnswer(invocation -> {
+            awaitSubscribed(1L);
+            streams.sendToUser(1L, 6L, "NOTIFICATION", TextNode.valueOf("n6"));
+            streams.sendToUser(1L, 7L, "NOTIFICATION", TextNode.valueOf("n7"));
+            return new NotificationStreamReplayBuffer.Replay(List.of(message(5), message(6)), false, 4L);
+        });
+
+        // when & then
+        StepVerifier.create(streams.stream(1L, "4"))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "5"))
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "6"))
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "7"))
+                .expectNoEvent(Duration.ofMillis(200))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("시퀀스가 리셋된 재연결: RESYNC 후 새 시퀀스의 작은 id 라이브 이벤트도 버리지 않는다")
+    void stream_sequenceReset_resyncAndKeepsNewIds() {
+        // given: 클라이언트는 40 까지 받았지만 시퀀스가 다시 시작돼 현재 1
+        when(replayBuffer.replay(1L, "40"))
+                .thenReturn(new NotificationStreamReplayBuffer.Replay(List.of(message(1)), true, 0L));
+
+        // when & then
+        StepVerifier.create(streams.stream(1L, "40"))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .expectNextMatches(event -> isEvent(event, NotificationStreamReplayBuffer.RESYNC_EVENT, null))
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "1"))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    streams.sendToUser(1L, 2L, "NOTIFICATION", "n2");
+                })
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "2"))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("마지막 구독자가 취소하면 유저 sink 를 정리하고, 남은 탭이 있으면 유지한다")
+    void stream_lastSubscriberCancels_removesSink() {
+        // given: 두 탭
+        StepVerifier.FirstStep<ServerSentEvent<Object>> second = StepVerifier.create(streams.stream(1L));
+
+        StepVerifier.create(streams.stream(1L))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> second
+                        .expectNextMatches(event -> isEvent(event, "INIT", null))
+                        .thenCancel()
+                        .verify(TIMEOUT))
+                // 한 탭이 닫혀도 남은 탭이 있으므로 유지
+                .then(() -> assertThat(streams.connectedUserIds()).containsExactly(1L))
+                .thenCancel()
+                .verify(TIMEOUT);
+
+        // then
+        assertThat(streams.connectedUserIds()).isEmpty();
+        assertThat(streams.subscriberCount(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("조립한 뒤 다른 탭이 끝나 sink 가 지워져도, 늦게 구독한 스트림은 새 sink 에 붙어 이벤트를 받는다")
+    void stream_assembledBeforeOtherTabEnds_stillReceivesEvents() {
+        // given: 두 번째 탭의 Flux 를 먼저 조립만 해 둔다
+        Flux<ServerSentEvent<Object>> late = streams.stream(1L);
+
+        StepVerifier.create(streams.stream(1L))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .thenCancel()
+                .verify(TIMEOUT);
+        assertThat(streams.connectedUserIds()).isEmpty();
+
+        // when & then
+        StepVerifier.create(late)
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    streams.sendToUser(1L, 1L, "NOTIFICATION", "hi");
+                })
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "1"))
+                .thenCancel()
+                .verify(TIMEOUT);
+    }
+
+    @Test
+    @DisplayName("배달 집계: reactive 스트림으로 넘긴 NOTIFICATION 은 발송 로그의 pushed 로 센다")
+    void sendToUser_recordsPushed() {
+        StepVerifier.create(streams.stream(1L))
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    streams.sendToUser(1L, 1L, "NOTIFICATION", notification(7));
+                })
+                .expectNextMatches(event -> isEvent(event, "NOTIFICATION", "1"))
+                .thenCancel()
+                .verify(TIMEOUT);
+
+        // when
+        deliveryRecorder.flush();
+
+        // then
+        verify(sendLogRepository).addDelivery(7, 1, 0);
+    }
+
+    @Test
+    @DisplayName("배달 집계: 버퍼 넘침으로 버려지거나 받지 못하고 연결이 끝난 NOTIFICATION 은 dropped 로 센다")
+    void sendToUser_overflowAndCancel_recordsDropped() {
+        StepVerifier.create(streams.stream(1L), 1)
+                .expectNextMatches(event -> isEvent(event, "INIT", null))
+                .then(() -> {
+                    awaitSubscribed(1L);
+                    for (long id = 1; id <= 40; id++) {
+                        streams.sendToUser(1L, id, "NOTIFICATION", notification(8));
+                    }
+                })
+                .thenCancel()
+                .verify(TIMEOUT);
+
+        // when
+        deliveryRecorder.flush();
+
+        // then: 하나도 write 되지 않았으므로 pushed 0, 최소한 버퍼를 넘친 만큼은 dropped
+        ArgumentCaptor<Integer> dropped = ArgumentCaptor.forClass(Integer.class);
+        verify(sendLogRepository).addDelivery(eq(8), eq(0), dropped.capture());
+        assertThat(dropped.getValue()).isGreaterThanOrEqualTo(6);
+    }
+}
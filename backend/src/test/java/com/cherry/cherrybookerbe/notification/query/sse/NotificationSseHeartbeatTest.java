@@ -0,0 +1,107 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationSseHeartbeatTest {
+
+    @Mock
+    private NotificationReactiveStreams reactiveStreams;
+
+    @Mock
+    private NotificationStreamReplayBuffer replayBuffer;
+
+    @Mock
+    private NotificationDeliveryRecorder deliveryRecorder;
+
+    private final StalledEmitter emitter = new StalledEmitter();
+
+    private NotificationSseEmitters emitters;
+
+    private NotificationSseHeartbeat heartbeat;
+
+    @BeforeEach
+    void setUp() {
+        emitters = new NotificationSseEmitters(new SimpleMeterRegistry(), replayBuffer, deliveryRecorder, 10) {
+            @Override
+            SseEmitter newEmitter() {
+                return emitter;
+            }
+        };
+        heartbeat = new NotificationSseHeartbeat(emitters, reactiveStreams, replayBuffer, 1_800_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        emitter.release.countDown();
+        emitters.shutdown();
+    }
+
+    @Test
+    @DisplayName("write 가 멈춘 연결은 PING 이 MAX_UNWRITTEN_PINGS 번 넘게 나가지 못하면 닫고 목록에서 뺀다")
+    void heartbeat_stalledWrites_evictsAfterMaxUnwrittenPings() {
+        // given: INIT 이후의 write 는 모두 멈춘 연결
+        emitters.add(1L);
+
+        // when: 나가지 못한 PING 이 한도까지는 유지
+        for (int i = 0; i < NotificationSseHeartbeat.MAX_UNWRITTEN_PINGS; i++) {
+            heartbeat.heartbeat();
+        }
+
+        // then
+        assertThat(emitters.connectedUserIds()).containsExactly(1L);
+        assertThat(emitter.completed).isFalse();
+        verify(replayBuffer, times(NotificationSseHeartbeat.MAX_UNWRITTEN_PINGS)).touch(Set.of(1L));
+
+        // when: 한도를 넘기면 정리
+        heartbeat.heartbeat();
+
+        // then
+        assertThat(emitters.connectedUserIds()).isEmpty();
+        assertThat(emitter.completed).isTrue();
+        verify(replayBuffer).touch(Set.of());
+    }
+
+    // 첫 write(INIT) 만 나가고 이후 write 는 풀어 줄 때까지 멈추는 emitter (끊긴 소켓 흉내)
+    private static final class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final AtomicInteger sends = new AtomicInteger();
+        private volatile boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (sends.getAndIncrement() > 0) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException(e);
+                }
+            }
+            super.send(builder);
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
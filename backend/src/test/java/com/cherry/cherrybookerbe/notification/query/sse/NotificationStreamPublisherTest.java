@@ -0,0 +1,172 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamPublisherTest {
+
+    private static final String CHANNEL = "notification:stream";
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private NotificationSseEmitters emitters;
+
+    @Mock
+    private NotificationReactiveStreams reactiveStreams;
+
+    @Mock
+    private NotificationStreamReplayBuffer replayBuffer;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationStreamPublisher publisher(boolean redisFanoutEnabled) {
+        return new NotificationStreamPublisher(redisTemplate, objectMapper, emitters, reactiveStreams,
+                replayBuffer, CHANNEL, redisFanoutEnabled);
+    }
+
+    @Test
+    @DisplayName("publish: 리플레이 id 를 붙여 Redis 채널로만 발행하고, 로컬 전달은 구독자에게 맡긴다")
+    void publish_redis() throws Exception {
+        // given
+        TextNode data = TextNode.valueOf("hi");
+        when(replayBuffer.append(1L, "NOTIFICATION", data))
+                .thenReturn(new NotificationStreamMessage(3L, 1L, "NOTIFICATION", data));
+
+        // when
+        publisher(true).publish(1L, "NOTIFICATION", "hi");
+
+        // then
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), json.capture());
+        assertThat(objectMapper.readValue(json.getValue(), NotificationStreamMessage.class))
+                .isEqualTo(new NotificationStreamMessage(3L, 1L, "NOTIFICATION", data));
+        verifyNoInteractions(emitters, reactiveStreams);
+    }
+
+    @Test
+    @DisplayName("publish: Redis 발행이 실패하면 이 파드에 연결된 스트림에 직접 전달한다")
+    void publish_redisFails_deliversLocally() throws Exception {
+        // given
+        TextNode data = TextNode.valueOf("hi");
+        when(replayBuffer.append(1L, "NOTIFICATION", data))
+                .thenReturn(new NotificationStreamMessage(3L, 1L, "NOTIFICATION", data));
+        doThrow(new IllegalStateException("redis down")).when(redisTemplate).convertAndSend(anyString(), any());
+
+        // when
+        publisher(true).publish(1L, "NOTIFICATION", "hi");
+
+        // then
+        verify(emitters).sendToUser(1L, 3L, "NOTIFICATION", data);
+        verify(reactiveStreams).sendToUser(1L, 3L, "NOTIFICATION", data);
+    }
+
+    @Test
+    @DisplayName("publish: 팬아웃이 꺼져 있으면 Redis 채널 없이 로컬로만 전달한다")
+    void publish_fanoutDisabled_deliversLocallyOnly() throws Exception {
+        // given
+        TextNode data = TextNode.valueOf("hi");
+        when(replayBuffer.append(1L, "NOTIFICATION", data))
+                .thenReturn(new NotificationStreamMessage(null, 1L, "NOTIFICATION", data));
+
+        // when
+        publisher(false).publish(1L, "NOTIFICATION", "hi");
+
+        // then
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        verify(emitters).sendToUser(1L, null, "NOTIFICATION", data);
+        verify(reactiveStreams).sendToUser(1L, null, "NOTIFICATION", data);
+    }
+
+    @Test
+    @DisplayName("publish: 리플레이 버퍼 기록이 실패해도 id 없이 발행한다")
+    void publish_replayFails_publishesWithoutId() throws Exception {
+        // given
+        when(replayBuffer.append(anyLong(), anyString(), any())).thenThrow(new IllegalStateException("redis down"));
+
+        // when
+        publisher(true).publish(1L, "NOTIFICATION", "hi");
+
+        // then
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), json.capture());
+        assertThat(objectMapper.readValue(json.getValue(), NotificationStreamMessage.class).id()).isNull();
+    }
+
+    @Test
+    @DisplayName("publishAll: 청크의 유저들을 리플레이 기록 한 번 + 배열 메시지 PUBLISH 한 번으로 보낸다")
+    void publishAll_singlePublishPerChunk() throws Exception {
+        // given
+        Map<Long, Object> dataByUser = new LinkedHashMap<>();
+        dataByUser.put(1L, "a");
+        dataByUser.put(2L, "b");
+        List<NotificationStreamMessage> appended = List.of(
+                new NotificationStreamMessage(5L, 1L, "NOTIFICATION", TextNode.valueOf("a")),
+                new NotificationStreamMessage(null, 2L, "NOTIFICATION", TextNode.valueOf("b")));
+        when(replayBuffer.appendAll(eq("NOTIFICATION"), anyMap())).thenReturn(appended);
+
+        // when
+        publisher(true).publishAll("NOTIFICATION", dataByUser);
+
+        // then
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(redisTemplate, times(1)).convertAndSend(eq(CHANNEL), json.capture());
+        assertThat(NotificationStreamMessage.readAll(objectMapper, json.getValue(), userId -> true))
+                .isEqualTo(appended);
+        verify(replayBuffer, never()).append(anyLong(), anyString(), any(JsonNode.class));
+        verifyNoInteractions(emitters, reactiveStreams);
+    }
+
+    @Test
+    @DisplayName("publishAll: Redis 발행이 실패하면 청크의 메시지를 모두 로컬로 전달한다")
+    void publishAll_redisFails_deliversLocally() throws Exception {
+        // given
+        List<NotificationStreamMessage> appended = List.of(
+                new NotificationStreamMessage(5L, 1L, "NOTIFICATION", TextNode.valueOf("a")),
+                new NotificationStreamMessage(6L, 2L, "NOTIFICATION", TextNode.valueOf("b")));
+        when(replayBuffer.appendAll(eq("NOTIFICATION"), anyMap())).thenReturn(appended);
+        doThrow(new IllegalStateException("redis down")).when(redisTemplate).convertAndSend(anyString(), any());
+
+        // when
+        publisher(true).publishAll("NOTIFICATION", Map.of(1L, "a", 2L, "b"));
+
+        // then
+        verify(emitters).sendToUser(1L, 5L, "NOTIFICATION", TextNode.valueOf("a"));
+        verify(emitters).sendToUser(2L, 6L, "NOTIFICATION", TextNode.valueOf("b"));
+        verify(reactiveStreams).sendToUser(1L, 5L, "NOTIFICATION", TextNode.valueOf("a"));
+        verify(reactiveStreams).sendToUser(2L, 6L, "NOTIFICATION", TextNode.valueOf("b"));
+    }
+
+    @Test
+    @DisplayName("publishToAll: 팬아웃이 꺼져 있으면 이 파드의 모든 연결에 브로드캐스트한다")
+    void publishToAll_fanoutDisabled_broadcastsLocally() {
+        // when
+        publisher(false).publishToAll("NOTICE", "notice");
+
+        // then
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+        verify(emitters).broadcast("NOTICE", TextNode.valueOf("notice"));
+        verify(reactiveStreams).broadcast("NOTICE", TextNode.valueOf("notice"));
+    }
+}
@@ -0,0 +1,222 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamReplayBufferTest {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationStreamReplayBuffer replayBuffer;
+
+    @BeforeEach
+    void setUp() {
+        replayBuffer = new NotificationStreamReplayBuffer(redisTemplate, objectMapper, 50, 60);
+    }
+
+    @Test
+    @DisplayName("append: 시퀀스 발급/저장/자르기/만료를 스크립트 한 번으로 처리하고 발급된 id 를 붙인다")
+    void append_singleScriptCall() throws Exception {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class),
+                eq(List.of("notification:stream:seq:1", "notification:stream:buf:1")),
+                anyString(), eq("50"), eq("3600")))
+                .thenReturn(7L);
+
+        // when
+        NotificationStreamMessage message = replayBuffer.append(1L, "NOTIFICATION", TextNode.valueOf("hi"));
+
+        // then
+        assertThat(message.id()).isEqualTo(7L);
+        verify(redisTemplate, never()).opsForList();
+        verify(redisTemplate, never()).opsForValue();
+    }
+
+    @Test
+    @DisplayName("append: 스트림을 연 적 없는 유저는 버퍼 없이 id 없는 메시지로 라이브 전달만 한다")
+    void append_notConnected_noId() throws Exception {
+        // given
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), anyString(), anyString(), anyString()))
+                .thenReturn(null);
+
+        // when
+        NotificationStreamMessage message = replayBuffer.append(2L, "NOTIFICATION", TextNode.valueOf("hi"));
+
+        // then
+        assertThat(message.id()).isNull();
+        assertThat(message.userId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("open: 시퀀스 키가 이미 있으면 값은 그대로 두고 만료만 늘린다")
+    void open_existing_refreshesTtl() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.setIfAbsent("notification:stream:seq:1", "0", Duration.ofMinutes(60))).thenReturn(false);
+
+        // when
+        replayBuffer.open(1L);
+
+        // then
+        verify(redisTemplate).expire("notification:stream:seq:1", Duration.ofMinutes(60));
+    }
+
+    @Test
+    @DisplayName("replay: \"id:JSON\" 항목에서 lastEventId 이후만 오래된 순으로 돌려준다")
+    void replay_parsesEntriesAfterLastId() throws Exception {
+        // given
+        String json = objectMapper.writeValueAsString(
+                new NotificationStreamMessage(null, 1L, "NOTIFICATION", TextNode.valueOf("x")));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:stream:seq:1")).thenReturn("6");
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("notification:stream:buf:1", 0, -1))
+                .thenReturn(List.of("6:" + json, "5:" + json, "4:" + json));
+
+        // when
+        NotificationStreamReplayBuffer.Replay replay = replayBuffer.replay(1L, "4");
+
+        // then
+        assertThat(replay.gap()).isFalse();
+        assertThat(replay.messages()).extracting(NotificationStreamMessage::id).containsExactly(5L, 6L);
+    }
+
+    @Test
+    @DisplayName("replay: 버퍼가 밀려나 lastEventId 다음 이벤트가 없으면 남은 것만 돌려주고 gap")
+    void replay_bufferOverflow_gap() throws Exception {
+        // given: 현재 10, 버퍼에는 9, 10 만 남음
+        String json = objectMapper.writeValueAsString(
+                new NotificationStreamMessage(null, 1L, "NOTIFICATION", TextNode.valueOf("x")));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:stream:seq:1")).thenReturn("10");
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("notification:stream:buf:1", 0, -1))
+                .thenReturn(List.of("10:" + json, "9:" + json));
+
+        // when
+        NotificationStreamReplayBuffer.Replay replay = replayBuffer.replay(1L, "4");
+
+        // then
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.afterId()).isEqualTo(4L);
+        assertThat(replay.messages()).extracting(NotificationStreamMessage::id).containsExactly(9L, 10L);
+    }
+
+    @Test
+    @DisplayName("replay: 시퀀스 키가 만료돼 다시 시작됐으면(현재 < lastEventId) 새 시퀀스 처음부터 돌려주고 gap")
+    void replay_sequenceReset_gapFromZero() throws Exception {
+        // given: 클라이언트는 40 까지 받았는데 시퀀스가 재생성돼 현재 2
+        String json = objectMapper.writeValueAsString(
+                new NotificationStreamMessage(null, 1L, "NOTIFICATION", TextNode.valueOf("x")));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:stream:seq:1")).thenReturn("2");
+        when(redisTemplate.opsForList()).thenReturn(listOperations);
+        when(listOperations.range("notification:stream:buf:1", 0, -1))
+                .thenReturn(List.of("2:" + json, "1:" + json));
+
+        // when
+        NotificationStreamReplayBuffer.Replay replay = replayBuffer.replay(1L, "40");
+
+        // then
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.afterId()).isZero();
+        assertThat(replay.messages()).extracting(NotificationStreamMessage::id).containsExactly(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("replay: 시퀀스 키가 만료돼 아직 없으면(현재 0) 돌려줄 이벤트 없이 gap")
+    void replay_sequenceExpired_gap() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:stream:seq:1")).thenReturn(null);
+
+        // when
+        NotificationStreamReplayBuffer.Replay replay = replayBuffer.replay(1L, "40");
+
+        // then
+        assertThat(replay.gap()).isTrue();
+        assertThat(replay.messages()).isEmpty();
+        verify(redisTemplate, never()).opsForList();
+    }
+
+    @Test
+    @DisplayName("replay: 이미 최신까지 받았으면 gap 없이 빈 결과")
+    void replay_upToDate_noGap() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("notification:stream:seq:1")).thenReturn("6");
+
+        // when
+        NotificationStreamReplayBuffer.Replay replay = replayBuffer.replay(1L, "6");
+
+        // then
+        assertThat(replay.gap()).isFalse();
+        assertThat(replay.messages()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("appendAll: 여러 유저의 append 를 파이프라인 한 번으로 보내고, 스트림을 연 적 없는 유저는 id 없이 돌려준다")
+    void appendAll_pipelinesOnce() throws Exception {
+        // given
+        Map<Long, JsonNode> dataByUser = new LinkedHashMap<>();
+        dataByUser.put(1L, TextNode.valueOf("a"));
+        dataByUser.put(2L, TextNode.valueOf("b"));
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenReturn(Arrays.asList(5L, null));
+
+        // when
+        List<NotificationStreamMessage> messages = replayBuffer.appendAll("NOTIFICATION", dataByUser);
+
+        // then
+        assertThat(messages).containsExactly(
+                new NotificationStreamMessage(5L, 1L, "NOTIFICATION", TextNode.valueOf("a")),
+                new NotificationStreamMessage(null, 2L, "NOTIFICATION", TextNode.valueOf("b")));
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    @DisplayName("touch: 연결된 유저들의 시퀀스 만료 갱신을 파이프라인 한 번으로 보낸다")
+    void touch_pipelinesOnce() {
+        // when
+        replayBuffer.touch(Set.of(1L, 2L));
+        replayBuffer.touch(Set.of());
+
+        // then
+        verify(redisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+    }
+}
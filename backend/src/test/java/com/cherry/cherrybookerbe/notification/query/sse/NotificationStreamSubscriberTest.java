@@ -0,0 +1,125 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.service.NotificationNoticeInbox;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamSubscriberTest {
+
+    private static final String CHANNEL = "notification:stream";
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private NotificationSseEmitters emitters;
+
+    @Mock
+    private NotificationNoticeInbox noticeInbox;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private NotificationStreamSubscriber subscriber;
+
+    @BeforeEach
+    void setUp() {
+        subscriber = new NotificationStreamSubscriber(listenerContainer, objectMapper, emitters, noticeInbox,
+                CHANNEL, true);
+    }
+
+    private void receive(Object payload) throws Exception {
+        byte[] body = objectMapper.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8);
+        subscriber.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body), null);
+    }
+
+    @Test
+    @DisplayName("유저 대상 메시지는 id 와 함께 해당 유저의 연결로만 전달한다")
+    void onMessage_routesByUserId() throws Exception {
+        // given
+        when(emitters.connectedUserIds()).thenReturn(Set.of(1L));
+
+        // when
+        receive(new NotificationStreamMessage(3L, 1L, "NOTIFICATION", TextNode.valueOf("hi")));
+
+        // then
+        verify(emitters).sendToUser(1L, 3L, "NOTIFICATION", TextNode.valueOf("hi"));
+        verify(emitters, never()).broadcast(any(), any());
+    }
+
+    @Test
+    @DisplayName("이 파드에 연결이 없는 유저의 메시지는 전달하지 않는다")
+    void onMessage_notConnectedHere_skips() throws Exception {
+        // given
+        when(emitters.connectedUserIds()).thenReturn(Set.of());
+
+        // when
+        receive(new NotificationStreamMessage(3L, 1L, "NOTIFICATION", TextNode.valueOf("hi")));
+
+        // then
+        verify(emitters, never()).sendToUser(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("전체 발송 청크(배열 메시지)는 이 파드에 연결된 유저 것만 골라 각자에게 전달한다")
+    void onMessage_batch_routesConnectedUsersOnly() throws Exception {
+        // given
+        when(emitters.connectedUserIds()).thenReturn(Set.of(1L, 3L));
+
+        // when
+        receive(List.of(
+                new NotificationStreamMessage(5L, 1L, "NOTIFICATION", TextNode.valueOf("a")),
+                new NotificationStreamMessage(6L, 2L, "NOTIFICATION", TextNode.valueOf("b")),
+                new NotificationStreamMessage(null, 3L, "NOTIFICATION", TextNode.valueOf("c"))));
+
+        // then
+        verify(emitters).sendToUser(1L, 5L, "NOTIFICATION", TextNode.valueOf("a"));
+        verify(emitters).sendToUser(3L, null, "NOTIFICATION", TextNode.valueOf("c"));
+        verify(emitters, never()).sendToUser(eq(2L), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("userId 없는 메시지는 브로드캐스트하고, NOTICE 면 이 파드의 최신 공지 id 도 올린다")
+    void onMessage_broadcastNotice() throws Exception {
+        // given
+        ObjectNode data = objectMapper.createObjectNode().put("noticeId", 12);
+
+        // when
+        receive(new NotificationStreamMessage(null, null, "NOTICE", data));
+
+        // then
+        verify(noticeInbox).noticePublished(12);
+        verify(emitters).broadcast("NOTICE", data);
+        verify(emitters, never()).sendToUser(anyLong(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("깨진 메시지는 무시한다")
+    void onMessage_invalid_ignored() {
+        // when
+        subscriber.onMessage(new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8),
+                "not-json".getBytes(StandardCharsets.UTF_8)), null);
+
+        // then
+        verify(emitters, never()).sendToUser(anyLong(), any(), any(), any());
+        verify(emitters, never()).broadcast(any(), any());
+        verifyNoInteractions(noticeInbox);
+    }
+}
@@ -0,0 +1,105 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import com.cherry.cherrybookerbe.notification.command.service.NotificationUnreadCounterService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCountDebouncerTest {
+
+    @Mock
+    private NotificationStreamPublisher publisher;
+
+    @Mock
+    private NotificationUnreadCounterService unreadCounter;
+
+    private SimpleMeterRegistry registry;
+    private NotificationUnreadCountDebouncer debouncer;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        // 테스트 중 타이머가 먼저 발행하지 않도록 창을 길게 두고 flush 를 직접 호출
+        debouncer = new NotificationUnreadCountDebouncer(publisher, unreadCounter, registry, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        debouncer.shutdown();
+    }
+
+    @Test
+    @DisplayName("창 안의 변경이 하나면 이벤트 값을 그대로 한 번 발행한다")
+    void singleEvent_publishesEventValue() {
+        // given
+        debouncer.request(1, 4L);
+
+        // when
+        debouncer.flush(1);
+
+        // then
+        verify(publisher).publish(1L, "UNREAD_COUNT", 4L);
+        verifyNoInteractions(unreadCounter);
+    }
+
+    @Test
+    @DisplayName("창 안의 여러 변경은 카운터를 한 번 읽어 최신 값 하나로 발행한다")
+    void burst_mergedIntoOnePublish() {
+        // given
+        debouncer.request(1, 4L);
+        debouncer.request(1, 3L);
+        debouncer.request(1, 2L);
+        when(unreadCounter.get(1)).thenReturn(2L);
+
+        // when
+        debouncer.flush(1);
+        debouncer.flush(1);
+
+        // then
+        verify(publisher, times(1)).publish(anyLong(), anyString(), any());
+        verify(publisher).publish(1L, "UNREAD_COUNT", 2L);
+        assertThat(registry.get("notification.sse.unread.count.merged").counter().count()).isEqualTo(2.0);
+    }
+
+    @Test
+    @DisplayName("창이 열린 동안 새 알림이 오면 이벤트 값 대신 카운터를 다시 읽는다")
+    void invalidatedByNotification_rereadsCounter() {
+        // given
+        debouncer.request(1, 0L);
+        debouncer.invalidate(1);
+        when(unreadCounter.get(1)).thenReturn(1L);
+
+        // when
+        debouncer.flush(1);
+
+        // then
+        verify(publisher).publish(1L, "UNREAD_COUNT", 1L);
+    }
+
+    @Test
+    @DisplayName("창이 0 이면 디바운스 없이 바로 발행한다")
+    void zeroWindow_publishesImmediately() {
+        // given
+        NotificationUnreadCountDebouncer immediate =
+                new NotificationUnreadCountDebouncer(publisher, unreadCounter, new SimpleMeterRegistry(), 0);
+
+        // when
+        immediate.request(1, 7L);
+
+        // then
+        verify(publisher).publish(1L, "UNREAD_COUNT", 7L);
+        immediate.shutdown();
+    }
+}
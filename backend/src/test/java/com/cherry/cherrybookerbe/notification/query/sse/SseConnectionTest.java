@@ -0,0 +1,110 @@
+package com.cherry.cherrybookerbe.notification.query.sse;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SseConnectionTest {
+
+    @Test
+    @DisplayName("첫 이벤트만 drain 작업을 요청하고, 이후 이벤트는 큐에 쌓인다")
+    void offer_schedulesDrainOnlyOnce() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 10);
+
+        // when & then
+        assertThat(connection.offer("NOTIFICATION", "a")).isEqualTo(SseConnection.OfferResult.SCHEDULE_DRAIN);
+        assertThat(connection.offer("NOTIFICATION", "b")).isEqualTo(SseConnection.OfferResult.QUEUED);
+        assertThat(connection.depth()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("UNREAD_COUNT 는 대기 중인 이벤트에 최신 값으로 합쳐진다")
+    void offer_coalescesUnreadCount() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 10);
+        connection.offer("UNREAD_COUNT", 3L);
+
+        // when
+        SseConnection.OfferResult result = connection.offer("UNREAD_COUNT", 5L);
+
+        // then
+        assertThat(result).isEqualTo(SseConnection.OfferResult.COALESCED);
+        assertThat(connection.depth()).isEqualTo(1);
+        assertThat(connection.poll().data()).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 가장 오래된 이벤트를 버리고, drain 이 끝나면 다시 요청할 수 있다")
+    void offer_dropsOldestWhenFull() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 2);
+        connection.offer("NOTIFICATION", "a");
+        connection.offer("NOTIFICATION", "b");
+
+        // when
+        SseConnection.OfferResult result = connection.offer("NOTIFICATION", "c");
+
+        // then
+        assertThat(result).isEqualTo(SseConnection.OfferResult.DROPPED_OLDEST);
+        assertThat(connection.poll().data()).isEqualTo("b");
+        assertThat(connection.poll().data()).isEqualTo("c");
+        assertThat(connection.poll()).isNull();
+        assertThat(connection.offer("NOTIFICATION", "d")).isEqualTo(SseConnection.OfferResult.SCHEDULE_DRAIN);
+    }
+
+    @Test
+    @DisplayName("닫힌 연결에는 더 이상 이벤트가 쌓이지 않는다")
+    void offer_afterClose() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 2);
+        connection.offer("NOTIFICATION", "a");
+
+        // when
+        connection.close();
+
+        // then
+        assertThat(connection.offer("NOTIFICATION", "b")).isEqualTo(SseConnection.OfferResult.CLOSED);
+        assertThat(connection.depth()).isZero();
+    }
+
+    @Test
+    @DisplayName("리플레이 대기 중 들어온 라이브 이벤트 앞에 리플레이를 끼우고, 겹치는 id 는 건너뛴다")
+    void resume_prependsReplayBeforeLiveEvents() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 10, true);
+        assertThat(connection.offer(8L, "NOTIFICATION", "live-8")).isEqualTo(SseConnection.OfferResult.QUEUED);
+
+        // when
+        boolean schedule = connection.resume(List.of(
+                new SseConnection.PendingEvent(6L, "NOTIFICATION", "replay-6"),
+                new SseConnection.PendingEvent(7L, "NOTIFICATION", "replay-7"),
+                new SseConnection.PendingEvent(8L, "NOTIFICATION", "replay-8")
+        ));
+
+        // then
+        assertThat(schedule).isTrue();
+        assertThat(connection.poll().data()).isEqualTo("replay-6");
+        assertThat(connection.poll().data()).isEqualTo("replay-7");
+        assertThat(connection.poll().data()).isEqualTo("live-8");
+        assertThat(connection.poll()).isNull();
+    }
+
+    @Test
+    @DisplayName("나가지 못한 PING 수는 write 가 한 번이라도 성공하면 0 으로 돌아간다 (경과 시간과 무관)")
+    void unwrittenPings_resetOnWrite() {
+        // given
+        SseConnection connection = new SseConnection(1L, new SseEmitter(), 10);
+        connection.pingEnqueued();
+        connection.pingEnqueued();
+
+        // when & then
+        assertThat(connection.unwrittenPings()).isEqualTo(2);
+        connection.markWritten("PING", System.currentTimeMillis());
+        assertThat(connection.unwrittenPings()).isZero();
+    }
+}
@@ -24,6 +24,19 @@ export async function fetchThreadDetail(threadId) {
     return res.data.data
 }
 
+/**
+ * 릴레이 목록 이어 받기 (작성순 커서 페이지네이션)
+ * GET /api/community/threads/{threadId}/replies?cursor=&size=
+ * 응답: ApiResponse<CommunityReplyCursorResponse>
+ *  - data: { replies: [...], nextCursor, hasNext }
+ */
+export async function fetchThreadReplies(threadId, { cursor, size } = {}) {
+    const res = await apiClient.get(`/community/threads/${threadId}/replies`, {
+        params: { cursor, size },
+    })
+    return res.data.data
+}
+
 /**
  * 내 스레드 목록 조회 (루트만)
  * GET /api/community/threads/me?page=&size=
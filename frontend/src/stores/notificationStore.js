@@ -16,6 +16,9 @@ export const useNotificationStore = defineStore('notification', () => {
     const reconnectTimer = ref(null)
     const reconnectAttempt = ref(0)
 
+    // 마지막으로 받은 SSE 이벤트 id (재연결 시 Last-Event-ID 로 보내 놓친 이벤트를 다시 받음)
+    const lastEventId = ref(null)
+
     const authStore = useAuthStore()
 
     // =========================
@@ -98,11 +101,14 @@ export const useNotificationStore = defineStore('notification', () => {
         // 혹시 남아있던 연결 정리
         cleanupSse()
 
+        const headers = { Authorization: `Bearer ${token}` }
+        if (lastEventId.value) {
+            headers['Last-Event-ID'] = lastEventId.value
+        }
+
         const es = new EventSourcePolyfill('/api/notifications/me/stream', {
             withCredentials: true,
-            headers: {
-                Authorization: `Bearer ${token}`,
-            },
+            headers,
         })
 
         sse.value = es
@@ -115,6 +121,7 @@ export const useNotificationStore = defineStore('notification', () => {
 
         // 새로운 알림 생성
         es.addEventListener('NOTIFICATION', (event) => {
+            if (event.lastEventId) lastEventId.value = event.lastEventId
             try {
                 const payload = JSON.parse(event.data)
                 console.log('[SSE] NOTIFICATION', payload)
@@ -142,6 +149,7 @@ export const useNotificationStore = defineStore('notification', () => {
 
         // 읽음 처리 후 미읽음 개수 갱신
         es.addEventListener('UNREAD_COUNT', (event) => {
+            if (event.lastEventId) lastEventId.value = event.lastEventId
             // 서버가 숫자만 보내면 event.data는 "3" 같은 문자열일 가능성이 큼
             const direct = Number(event.data)
             if (!Number.isNaN(direct)) {
@@ -162,6 +170,22 @@ export const useNotificationStore = defineStore('notification', () => {
             // keep-alive
         })
 
+        // 끊긴 동안의 이벤트를 서버가 다 돌려주지 못한 경우에만 전체 재조회
+        es.addEventListener('RESYNC', () => {
+            Promise.all([loadNotifications(0), fetchUnreadCountAction()]).catch((e) => {
+                console.error('[SSE] RESYNC reload error', e)
+            })
+        })
+
+        // 전체 공지: 서버는 조회 시점에 내 알림으로 옮기므로 다시 조회. 동시 접속자가 한꺼번에 몰리지 않게 지연을 흩뿌림
+        es.addEventListener('NOTICE', () => {
+            setTimeout(() => {
+                Promise.all([loadNotifications(0), fetchUnreadCountAction()]).catch((e) => {
+                    console.error('[SSE] NOTICE reload error', e)
+                })
+            }, Math.floor(Math.random() * 3000))
+        })
+
         es.onerror = (err) => {
             console.error('[SSE] error', err)
 
@@ -185,6 +209,7 @@ export const useNotificationStore = defineStore('notification', () => {
     function disconnectSse() {
         cleanupSse()
         reconnectAttempt.value = 0
+        lastEventId.value = null
         notifications.value = []
         unreadCount.value = 0
     }